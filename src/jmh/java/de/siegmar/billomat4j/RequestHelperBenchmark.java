@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.siegmar.billomat4j.service.BillomatConfiguration;
+
+/**
+ * Measures the URL building of {@link RequestHelper} - the query string variant includes parameter
+ * encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestHelperBenchmark {
+
+    private RequestHelper requestHelper;
+    private Map<String, String> filter;
+
+    @Setup
+    public void setup() {
+        final BillomatConfiguration cfg = new BillomatConfiguration();
+        cfg.setBillomatId("benchmark");
+        requestHelper = new RequestHelper(cfg);
+
+        filter = new LinkedHashMap<>();
+        filter.put("client_id", "4711");
+        filter.put("status", "OPEN,OVERDUE");
+        filter.put("from", "2022-01-01");
+        filter.put("to", "2022-12-31");
+        filter.put("name", "Müller & Söhne");
+        filter.put("per_page", "1000");
+        filter.put("page", "3");
+    }
+
+    @Benchmark
+    public URI buildUrl() {
+        return requestHelper.buildUrl("invoices", "4711", "pdf", null);
+    }
+
+    @Benchmark
+    public URI buildUrlWithQuery() {
+        return requestHelper.buildUrl("invoices", null, null, filter);
+    }
+
+}
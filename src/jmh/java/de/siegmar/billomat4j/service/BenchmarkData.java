@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import de.siegmar.billomat4j.domain.invoice.Invoice;
+import de.siegmar.billomat4j.domain.invoice.InvoiceItem;
+
+/**
+ * Synthetic API responses and entities used by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final int CLIENT_COUNT = 50;
+    private static final String NET_AMOUNT = "100.00";
+    private static final String GROSS_AMOUNT = "119.00";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Builds a page of an invoice list response as returned by the API.
+     *
+     * @param page    the page number (1-based)
+     * @param perPage the number of records per page
+     * @param total   the total number of records
+     * @return the JSON response body
+     */
+    static byte[] invoicesPage(final int page, final int perPage, final int total) {
+        final StringBuilder sb = pageStart("invoices", page, perPage, total).append("\"invoice\":[");
+        final int first = (page - 1) * perPage + 1;
+        final int last = Math.min(total, page * perPage);
+        for (int id = first; id <= last; id++) {
+            if (id > first) {
+                sb.append(',');
+            }
+            appendInvoice(sb, id);
+        }
+        return pageEnd(sb);
+    }
+
+    /**
+     * Builds a page of a client list response as returned by the API.
+     *
+     * @param page    the page number (1-based)
+     * @param perPage the number of records per page
+     * @param total   the total number of records
+     * @return the JSON response body
+     */
+    static byte[] clientsPage(final int page, final int perPage, final int total) {
+        final StringBuilder sb = pageStart("clients", page, perPage, total).append("\"client\":[");
+        final int first = (page - 1) * perPage + 1;
+        final int last = Math.min(total, page * perPage);
+        for (int id = first; id <= last; id++) {
+            if (id > first) {
+                sb.append(',');
+            }
+            appendClient(sb, id);
+        }
+        return pageEnd(sb);
+    }
+
+    /**
+     * Builds a new invoice as it would be passed to {@link InvoiceService#createInvoice(Invoice)}.
+     *
+     * @param itemCount the number of items to add
+     * @return the invoice
+     */
+    static Invoice invoiceWithItems(final int itemCount) {
+        final Invoice invoice = new Invoice();
+        invoice.setClientId(1);
+        invoice.setDate(LocalDate.parse("2022-01-03"));
+        invoice.setLabel("Project Phoenix");
+        invoice.setIntro("We thank you for your order and invoice the following services:");
+        invoice.setNote("Payable within 14 days without deduction.");
+        for (int i = 1; i <= itemCount; i++) {
+            final InvoiceItem item = new InvoiceItem();
+            item.setPosition(i);
+            item.setTitle("Consulting services " + i);
+            item.setDescription("Analysis and concept of module " + i);
+            item.setUnit("hours");
+            item.setQuantity(BigDecimal.valueOf(i));
+            item.setUnitPrice(new BigDecimal("95.50"));
+            item.setTaxName("MwSt");
+            item.setTaxRate(new BigDecimal("19"));
+            invoice.addInvoiceItem(item);
+        }
+        return invoice;
+    }
+
+    private static StringBuilder pageStart(final String root, final int page, final int perPage,
+                                           final int total) {
+        return new StringBuilder()
+            .append("{\"").append(root).append("\":{")
+            .append("\"@page\":\"").append(page).append("\",")
+            .append("\"@per_page\":\"").append(perPage).append("\",")
+            .append("\"@total\":\"").append(total).append("\",");
+    }
+
+    private static byte[] pageEnd(final StringBuilder sb) {
+        return sb.append("]}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendInvoice(final StringBuilder sb, final int id) {
+        sb.append("{\"id\":\"").append(id)
+            .append("\",\"created\":\"2022-01-03T10:15:30+01:00\"")
+            .append(",\"client_id\":\"").append(id % CLIENT_COUNT + 1)
+            .append("\",\"contact_id\":\"\"")
+            .append(",\"invoice_number\":\"RE").append(id)
+            .append("\",\"number\":\"").append(id)
+            .append("\",\"number_pre\":\"RE\"")
+            .append(",\"status\":\"PAID\"")
+            .append(",\"date\":\"2022-01-03\"")
+            .append(",\"supply_date\":\"2022-01-03\"")
+            .append(",\"supply_date_type\":\"SUPPLY_DATE\"")
+            .append(",\"due_date\":\"2022-01-17\"")
+            .append(",\"due_days\":\"14\"")
+            .append(",\"address\":\"Musterfirma GmbH\\nMusterstraße 1\\n12345 Musterstadt\"")
+            .append(",\"discount_rate\":\"2\"")
+            .append(",\"discount_date\":\"2022-01-10\"")
+            .append(",\"discount_days\":\"7\"")
+            .append(",\"discount_amount\":\"2.38\"")
+            .append(",\"label\":\"Project Phoenix\"")
+            .append(",\"intro\":\"We thank you for your order and invoice the following services:\"")
+            .append(",\"note\":\"Payable within 14 days without deduction.\"")
+            .append(",\"total_gross\":\"").append(GROSS_AMOUNT)
+            .append("\",\"total_net\":\"").append(NET_AMOUNT)
+            .append("\",\"reduction\":\"\"")
+            .append(",\"total_gross_unreduced\":\"").append(GROSS_AMOUNT)
+            .append("\",\"total_net_unreduced\":\"").append(NET_AMOUNT)
+            .append("\",\"currency_code\":\"EUR\"")
+            .append(",\"quote\":\"1.0000\"")
+            .append(",\"paid_amount\":\"").append(GROSS_AMOUNT)
+            .append("\",\"open_amount\":\"0.00\"")
+            .append(",\"payment_types\":\"BANK_TRANSFER,PAYPAL\"")
+            .append(",\"taxes\":{\"tax\":{\"name\":\"MwSt\",\"rate\":\"19.000\",\"amount\":\"19.00\"}}")
+            .append(",\"template_id\":\"\"")
+            .append(",\"customerportal_url\":\"")
+            .append("https://mybillomatid.billomat.net/customerportal/invoices/show/entityId/")
+            .append(id).append("\"}");
+    }
+
+    private static void appendClient(final StringBuilder sb, final int id) {
+        sb.append("{\"id\":\"").append(id)
+            .append("\",\"created\":\"2022-01-03T10:15:30+01:00\"")
+            .append(",\"client_number\":\"KD").append(id)
+            .append("\",\"number\":\"").append(id)
+            .append("\",\"number_pre\":\"KD\"")
+            .append(",\"number_length\":\"0\"")
+            .append(",\"name\":\"Musterfirma ").append(id)
+            .append(" GmbH\",\"salutation\":\"\"")
+            .append(",\"first_name\":\"Max\"")
+            .append(",\"last_name\":\"Mustermann\"")
+            .append(",\"street\":\"Musterstraße 1\"")
+            .append(",\"zip\":\"12345\"")
+            .append(",\"city\":\"Musterstadt\"")
+            .append(",\"state\":\"\"")
+            .append(",\"country_code\":\"DE\"")
+            .append(",\"phone\":\"+49 123 456789\"")
+            .append(",\"fax\":\"\"")
+            .append(",\"mobile\":\"\"")
+            .append(",\"email\":\"info").append(id).append("@example.com\"")
+            .append(",\"www\":\"https://www.example.com\"")
+            .append(",\"tax_number\":\"\"")
+            .append(",\"vat_number\":\"DE123456789\"")
+            .append(",\"bank_account_owner\":\"Musterfirma GmbH\"")
+            .append(",\"bank_name\":\"Musterbank\"")
+            .append(",\"bank_iban\":\"DE02120300000000202051\"")
+            .append(",\"bank_swift\":\"BYLADEM1001\"")
+            .append(",\"tax_rule\":\"COUNTRY\"")
+            .append(",\"discount_rate\":\"0\"")
+            .append(",\"due_days\":\"14\"")
+            .append(",\"note\":\"\"")
+            .append('}');
+    }
+
+}
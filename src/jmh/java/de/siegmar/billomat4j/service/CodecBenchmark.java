@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import de.siegmar.billomat4j.domain.client.Clients;
+import de.siegmar.billomat4j.domain.invoice.Invoice;
+import de.siegmar.billomat4j.domain.invoice.Invoices;
+
+/**
+ * Measures the (de)serialization of API payloads with the reader and writer configured by
+ * {@link BillomatConfiguration}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodecBenchmark {
+
+    private static final int ITEMS_PER_INVOICE = 10;
+
+    @Param({"100", "1000"})
+    private int records;
+
+    @Param({"false", "true"})
+    private boolean generatedAccessors;
+
+    private ObjectReader invoicesReader;
+    private ObjectReader clientsReader;
+    private ObjectWriter objectWriter;
+    private byte[] invoicesPage;
+    private byte[] clientsPage;
+    private Invoice invoice;
+
+    @Setup
+    public void setup() {
+        final BillomatConfiguration cfg = new BillomatConfiguration();
+        cfg.setBillomatId("benchmark");
+        cfg.setApiKey("benchmark");
+        cfg.setGeneratedAccessors(generatedAccessors);
+        cfg.init();
+
+        invoicesReader = cfg.getObjectReader().forType(Invoices.class);
+        clientsReader = cfg.getObjectReader().forType(Clients.class);
+        objectWriter = cfg.getObjectWriter();
+        invoicesPage = BenchmarkData.invoicesPage(1, records, records);
+        clientsPage = BenchmarkData.clientsPage(1, records, records);
+        invoice = BenchmarkData.invoiceWithItems(ITEMS_PER_INVOICE);
+    }
+
+    @Benchmark
+    public Invoices readInvoicesPage() throws IOException {
+        return invoicesReader.readValue(invoicesPage);
+    }
+
+    @Benchmark
+    public Clients readClientsPage() throws IOException {
+        return clientsReader.readValue(clientsPage);
+    }
+
+    @Benchmark
+    public byte[] writeInvoiceWithItems() throws IOException {
+        return objectWriter.writeValueAsBytes(invoice);
+    }
+
+}
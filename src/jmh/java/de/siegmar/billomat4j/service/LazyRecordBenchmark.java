@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import de.siegmar.billomat4j.domain.LazyRecord;
+import de.siegmar.billomat4j.domain.invoice.Invoice;
+import de.siegmar.billomat4j.domain.invoice.Invoices;
+import de.siegmar.billomat4j.domain.invoice.LazyInvoices;
+
+/**
+ * Compares reading an invoice list page bound to {@link Invoice} objects with capturing its records
+ * as {@link LazyRecord} (as done by {@link InvoiceService#streamInvoicesLazily}) - with and without
+ * binding the records afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyRecordBenchmark {
+
+    private static final Integer CLIENT_ID = 1;
+
+    @Param({"100", "1000"})
+    private int records;
+
+    private ObjectReader invoicesReader;
+    private ObjectReader lazyInvoicesReader;
+    private byte[] invoicesPage;
+
+    @Setup
+    public void setup() {
+        final BillomatConfiguration cfg = new BillomatConfiguration();
+        cfg.setBillomatId("benchmark");
+        cfg.setApiKey("benchmark");
+        cfg.init();
+
+        invoicesReader = cfg.getObjectReader().forType(Invoices.class);
+        lazyInvoicesReader = cfg.getObjectReader().forType(LazyInvoices.class);
+        invoicesPage = BenchmarkData.invoicesPage(1, records, records);
+    }
+
+    @Benchmark
+    public Invoices readInvoicesPage() throws IOException {
+        return invoicesReader.readValue(invoicesPage);
+    }
+
+    @Benchmark
+    public LazyInvoices readLazyInvoicesPage() throws IOException {
+        return lazyInvoicesReader.readValue(invoicesPage);
+    }
+
+    @Benchmark
+    public long readLazyInvoicesPageAndPeek() throws IOException {
+        final LazyInvoices invoices = lazyInvoicesReader.readValue(invoicesPage);
+        return invoices.getInvoices().stream()
+            .filter(r -> r.peek("client_id").filter(String.valueOf(CLIENT_ID)::equals).isPresent())
+            .count();
+    }
+
+    @Benchmark
+    public long readLazyInvoicesPageAndBind() throws IOException {
+        final LazyInvoices invoices = lazyInvoicesReader.readValue(invoicesPage);
+        return invoices.getInvoices().stream()
+            .map(LazyRecord::get)
+            .filter(i -> CLIENT_ID.equals(i.getClientId()))
+            .count();
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.siegmar.billomat4j.Pager;
+import de.siegmar.billomat4j.StubTransport;
+import de.siegmar.billomat4j.domain.invoice.Invoice;
+import de.siegmar.billomat4j.domain.invoice.Invoices;
+import de.siegmar.billomat4j.transport.HttpTransport;
+
+/**
+ * Measures {@link Pager#getAll(String, de.siegmar.billomat4j.domain.Filter)} - including request
+ * building, response handling and decoding - against an in-process {@link StubTransport} (of the
+ * test sources).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PagerBenchmark {
+
+    // the page size of the API if none is requested
+    private static final String DEFAULT_PER_PAGE = "100";
+
+    @Param({"1000", "10000"})
+    private int records;
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    @Param({"1", "4"})
+    private int fetchConcurrency;
+
+    private StubTransport transport;
+    private Pager<Invoices, Invoice> pager;
+
+    @Setup
+    public void setup() {
+        final BillomatConfiguration cfg = new BillomatConfiguration();
+        cfg.setBillomatId("benchmark");
+        cfg.setApiKey("benchmark");
+        transport = new StubTransport(pagesHandler(pageSize, records));
+        cfg.setHttpTransport(transport);
+        cfg.init();
+
+        pager = new Pager<>(Invoices.class, cfg.getRequestHelper(), cfg.getObjectReader());
+        pager.setPageSize(pageSize);
+        pager.setFetchConcurrency(fetchConcurrency);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearRequests() {
+        transport.clearRequests();
+    }
+
+    @Benchmark
+    public List<Invoice> getAll() {
+        return pager.getAll("invoices", null);
+    }
+
+    /**
+     * Serves pre-rendered invoice list pages - isolates paging and decoding from network latency.
+     *
+     * @param perPage the number of records per page
+     * @param total   the total number of records
+     * @return the handler of a {@link StubTransport}
+     */
+    private static HttpTransport pagesHandler(final int perPage, final int total) {
+        final int pageCount = Math.max(1, (total + perPage - 1) / perPage);
+        final byte[][] pages = new byte[pageCount][];
+        for (int i = 0; i < pageCount; i++) {
+            pages[i] = BenchmarkData.invoicesPage(i + 1, perPage, total);
+        }
+
+        return request -> {
+            final int page = StubTransport.page(request);
+            final String requestedPerPage = StubTransport.queryParam(request, "per_page", DEFAULT_PER_PAGE);
+            if (!Integer.toString(perPage).equals(requestedPerPage) || page < 1 || page > pages.length) {
+                return StubTransport.response(StubTransport.SC_NOT_FOUND, new byte[0]);
+            }
+            return StubTransport.response(StubTransport.SC_OK, pages[page - 1]);
+        };
+    }
+
+}
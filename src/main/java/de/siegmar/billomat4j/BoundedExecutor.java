@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Executes tasks by a delegate executor - but never more than the given number of tasks at the same
+ * time. Further tasks are queued and submitted to the delegate once a running task finished. This allows
+ * sharing a single (unbounded) executor between callers with different concurrency limits.
+ */
+public final class BoundedExecutor implements Executor {
+
+    private final Executor delegate;
+    private final int maxConcurrency;
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    private int active;
+
+    public BoundedExecutor(final Executor delegate, final int maxConcurrency) {
+        Validate.notNull(delegate, "delegate must not be null");
+        Validate.isTrue(maxConcurrency >= 1, "maxConcurrency must be >= 1");
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        Validate.notNull(command, "command must not be null");
+        synchronized (this) {
+            if (active >= maxConcurrency) {
+                queue.add(command);
+                return;
+            }
+            active++;
+        }
+
+        try {
+            delegate.execute(() -> run(command));
+        } catch (final RejectedExecutionException e) {
+            release();
+            throw e;
+        }
+    }
+
+    private void run(final Runnable command) {
+        try {
+            command.run();
+        } finally {
+            release();
+        }
+    }
+
+    private void release() {
+        final Runnable next;
+        synchronized (this) {
+            next = queue.poll();
+            if (next == null) {
+                active--;
+                return;
+            }
+        }
+
+        // the permit is passed on to the next task
+        try {
+            delegate.execute(() -> run(next));
+        } catch (final RejectedExecutionException e) {
+            run(next);
+        }
+    }
+
+}
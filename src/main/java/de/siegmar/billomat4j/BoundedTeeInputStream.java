@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Input stream keeping a copy of the first bytes read - used for debug logging of streamed
+ * responses without buffering them as a whole.
+ */
+final class BoundedTeeInputStream extends FilterInputStream {
+
+    private final ByteArrayOutputStream copy;
+    private final int limit;
+    private long total;
+
+    /**
+     * @param in    the stream to read from
+     * @param limit the maximum number of bytes to keep
+     */
+    BoundedTeeInputStream(final InputStream in, final int limit) {
+        super(in);
+        this.limit = limit;
+        copy = new ByteArrayOutputStream(Math.min(limit, Short.MAX_VALUE));
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b >= 0) {
+            if (total < limit) {
+                copy.write(b);
+            }
+            total++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int n = super.read(b, off, len);
+        if (n > 0) {
+            if (total < limit) {
+                copy.write(b, off, (int) Math.min(n, limit - total));
+            }
+            total += n;
+        }
+        return n;
+    }
+
+    /**
+     * @return the bytes read so far (decoded as UTF-8) - truncated if the limit was exceeded
+     */
+    @Override
+    public String toString() {
+        final String text = copy.toString(StandardCharsets.UTF_8);
+        return total > limit ? text + "... [truncated, " + total + " bytes total]" : text;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP content encoding (gzip and deflate) of request and response bodies.
+ */
+final class Compression {
+
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+    static final String GZIP = "gzip";
+
+    private static final String X_GZIP = "x-gzip";
+    private static final String DEFLATE = "deflate";
+    private static final String IDENTITY = "identity";
+
+    private Compression() {
+    }
+
+    /**
+     * @param data the data to compress
+     * @return the gzip compressed data
+     */
+    static byte[] gzip(final byte[] data) {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(bos)) {
+            out.write(data);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * Wraps the body for decompression while being read.
+     *
+     * @param contentEncoding the content encoding of the body, may be {@code null}
+     * @param body            the (possibly compressed) body
+     * @return the uncompressed body
+     * @throws IOException if the content encoding is not supported or the compressed body could not
+     *                     be read
+     */
+    static InputStream decode(final String contentEncoding, final InputStream body) throws IOException {
+        final String encoding = contentEncoding == null ? IDENTITY : contentEncoding.trim().toLowerCase(Locale.ROOT);
+        if (IDENTITY.equals(encoding) || encoding.isEmpty()) {
+            return body;
+        }
+
+        // an empty body (e.g. of an error response) has no compression header
+        final PushbackInputStream in = new PushbackInputStream(body);
+        final int first = in.read();
+        if (first < 0) {
+            return in;
+        }
+        in.unread(first);
+
+        return decompress(encoding, in);
+    }
+
+    private static InputStream decompress(final String encoding, final InputStream in) throws IOException {
+        switch (encoding) {
+            case GZIP:
+            case X_GZIP:
+                return new GZIPInputStream(in);
+            case DEFLATE:
+                return new InflaterInputStream(in);
+            default:
+                in.close();
+                throw new IOException("Unsupported content encoding: " + encoding);
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache for responses carrying validators ({@code ETag} / {@code Last-Modified}). Cached responses
+ * are never served without revalidation - they're only used if the server responds with
+ * {@code 304 Not Modified}.
+ * <p>
+ * Responses are kept in a size bounded (LRU) in-memory store and - if a directory is configured -
+ * in an on-disk store that survives restarts of the application.
+ */
+final class ConditionalCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConditionalCache.class);
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75F;
+    private static final int MAX_ENTRY_FRACTION = 4;
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILE_SUFFIX = ".response";
+
+    private final long maxBytes;
+    private final Path directory;
+    private final Map<URI, Entry> entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    private long bytes;
+
+    /**
+     * @param maxBytes  the maximum size of all responses kept in memory
+     * @param directory the directory of the on-disk store or {@code null} to keep responses in memory only
+     */
+    ConditionalCache(final long maxBytes, final Path directory) {
+        this.maxBytes = maxBytes;
+        this.directory = directory;
+    }
+
+    /**
+     * @param uri the request URI
+     * @return the cached response or {@code null} if no response is cached
+     */
+    Entry get(final URI uri) {
+        synchronized (this) {
+            final Entry entry = entries.get(uri);
+            if (entry != null || directory == null) {
+                return entry;
+            }
+        }
+
+        final Entry entry = read(file(uri));
+        if (entry != null) {
+            putInMemory(uri, entry);
+        }
+        return entry;
+    }
+
+    void put(final URI uri, final Entry entry) {
+        putInMemory(uri, entry);
+        if (directory != null) {
+            write(file(uri), entry);
+        }
+    }
+
+    void remove(final URI uri) {
+        synchronized (this) {
+            final Entry removed = entries.remove(uri);
+            if (removed != null) {
+                bytes -= removed.body.length;
+            }
+        }
+        if (directory != null) {
+            deleteQuietly(file(uri));
+        }
+    }
+
+    private synchronized void putInMemory(final URI uri, final Entry entry) {
+        final Entry replaced = entries.remove(uri);
+        if (replaced != null) {
+            bytes -= replaced.body.length;
+        }
+
+        // very large responses would displace too many others
+        if (entry.body.length > maxBytes / MAX_ENTRY_FRACTION) {
+            return;
+        }
+
+        entries.put(uri, entry);
+        bytes += entry.body.length;
+
+        final Iterator<Entry> it = entries.values().iterator();
+        while (bytes > maxBytes && it.hasNext()) {
+            bytes -= it.next().body.length;
+            it.remove();
+        }
+    }
+
+    private Path file(final URI uri) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(uri.toString().getBytes(StandardCharsets.UTF_8));
+            final StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (final byte b : hash) {
+                sb.append(String.format("%02x", b));
+            }
+            return directory.resolve(sb.append(FILE_SUFFIX).toString());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Entry read(final Path file) {
+        if (Files.notExists(file)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return in.readInt() == FORMAT_VERSION ? readEntry(in) : null;
+        } catch (final IOException e) {
+            LOG.debug("Failed to read cached response from {}", file, e);
+            return null;
+        }
+    }
+
+    private static Entry readEntry(final DataInputStream in) throws IOException {
+        final String etag = in.readUTF();
+        final String lastModified = in.readUTF();
+        final byte[] body = in.readNBytes(in.readInt());
+        return new Entry(etag.isEmpty() ? null : etag, lastModified.isEmpty() ? null : lastModified, body);
+    }
+
+    private static void write(final Path file, final Entry entry) {
+        Path tmpFile = null;
+        try {
+            tmpFile = Files.createTempFile(file.getParent(), "billomat4j", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(tmpFile)))) {
+
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(entry.etag != null ? entry.etag : "");
+                out.writeUTF(entry.lastModified != null ? entry.lastModified : "");
+                out.writeInt(entry.body.length);
+                out.write(entry.body);
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            LOG.debug("Failed to write cached response to {}", file, e);
+            deleteQuietly(tmpFile);
+        }
+    }
+
+    private static void deleteQuietly(final Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            LOG.debug("Failed to delete {}", file, e);
+        }
+    }
+
+    /**
+     * A cached response with its validators.
+     */
+    static final class Entry {
+
+        private final String etag;
+        private final String lastModified;
+        private final byte[] body;
+
+        Entry(final String etag, final String lastModified, final byte[] body) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.body = body;
+        }
+
+        String getEtag() {
+            return etag;
+        }
+
+        String getLastModified() {
+            return lastModified;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+    }
+
+}
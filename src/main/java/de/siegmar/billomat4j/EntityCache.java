@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size bounded (LRU) cache for responses of rarely changing resources. Each resource has its own
+ * time to live. All entries of a resource are invalidated whenever the resource is modified.
+ * <p>
+ * Every invalidation starts a new generation of the resource. Responses are only cached if the
+ * generation didn't change while they were requested - a response of a request that was still in
+ * flight while the resource was modified might already be outdated.
+ */
+final class EntityCache {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75F;
+
+    private final Map<String, Duration> ttls;
+    private final Map<URI, CacheEntry> entries;
+    private final Map<String, Long> generations = new HashMap<>();
+
+    /**
+     * @param ttls       the time to live per resource name - resources not contained are not cached
+     * @param maxEntries the maximum number of cached responses
+     */
+    EntityCache(final Map<String, Duration> ttls, final int maxEntries) {
+        this.ttls = Map.copyOf(ttls);
+        entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<URI, CacheEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param resource the resource to check
+     * @return {@code true} if responses of the given resource are cached
+     */
+    boolean isCacheable(final String resource) {
+        return ttls.containsKey(resource);
+    }
+
+    /**
+     * @param resource the requested resource
+     * @param uri      the request URI
+     * @return the cached response or {@code null} if the response is not (or no longer) cached
+     */
+    synchronized byte[] get(final String resource, final URI uri) {
+        final CacheEntry entry = ttls.containsKey(resource) ? entries.get(uri) : null;
+        if (entry == null) {
+            return null;
+        }
+
+        if (System.nanoTime() - entry.expiresAt > 0) {
+            entries.remove(uri);
+            return null;
+        }
+
+        return entry.data;
+    }
+
+    /**
+     * @param resource the resource to be requested
+     * @return the current generation of the resource - to be passed to
+     * {@link #put(String, URI, byte[], long)} once the response is received
+     */
+    synchronized long generation(final String resource) {
+        return generations.getOrDefault(resource, 0L);
+    }
+
+    /**
+     * @param resource   the requested resource
+     * @param uri        the request URI
+     * @param data       the response to cache, may be {@code null}
+     * @param generation the generation of the resource before the request was sent
+     *                   (see {@link #generation(String)})
+     */
+    synchronized void put(final String resource, final URI uri, final byte[] data, final long generation) {
+        final Duration ttl = ttls.get(resource);
+        if (ttl != null && data != null && generation == generation(resource)) {
+            entries.put(uri, new CacheEntry(resource, data, System.nanoTime() + ttl.toNanos()));
+        }
+    }
+
+    synchronized void invalidate(final String resource) {
+        if (ttls.containsKey(resource)) {
+            generations.merge(resource, 1L, Long::sum);
+            entries.values().removeIf(entry -> entry.resource.equals(resource));
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final String resource;
+        private final byte[] data;
+        private final long expiresAt;
+
+        CacheEntry(final String resource, final byte[] data, final long expiresAt) {
+            this.resource = resource;
+            this.data = data;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
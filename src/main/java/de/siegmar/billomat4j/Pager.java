@@ -20,19 +20,36 @@
 package de.siegmar.billomat4j;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectReader;
 
 import de.siegmar.billomat4j.domain.Filter;
 import de.siegmar.billomat4j.domain.Pageable;
 import de.siegmar.billomat4j.service.ServiceException;
+import de.siegmar.billomat4j.service.ServiceResponseException;
 
 public class Pager<T extends Pageable<E>, E> {
 
@@ -40,25 +57,218 @@ public class Pager<T extends Pageable<E>, E> {
 
     private static final int DEFAULT_API_PAGE_SIZE = 100;
     private static final int DEFAULT_SDK_PAGE_SIZE = 1000;
+    private static final int SC_SERVER_ERROR = 500;
 
-    private final Class<T> clazz;
     private final RequestHelper requestHelper;
     private final ObjectReader objectReader;
     private int pageSize = DEFAULT_SDK_PAGE_SIZE;
+    private int fetchConcurrency = 1;
+    private Executor executor = WorkerPool.shared();
+    private RetryPolicy pageRetryPolicy = new RetryPolicy(0, Duration.ZERO);
 
     public Pager(final Class<T> clazz, final RequestHelper requestHelper, final ObjectReader objectReader) {
-        this.clazz = clazz;
         this.requestHelper = requestHelper;
-        this.objectReader = objectReader;
+        // no-op if the reader is already typed
+        this.objectReader = objectReader.forType(clazz);
+    }
+
+    public int getPageSize() {
+        return pageSize;
     }
 
     public void setPageSize(final int pageSize) {
         this.pageSize = pageSize;
     }
 
+    /**
+     * Sets the number of pages that are fetched concurrently once the first page revealed the
+     * total number of records. A value of {@code 1} (the default) fetches all pages sequentially.
+     *
+     * @param fetchConcurrency the maximum number of concurrent page requests, must be &gt;= 1
+     */
+    public void setFetchConcurrency(final int fetchConcurrency) {
+        Validate.isTrue(fetchConcurrency >= 1, "fetchConcurrency must be >= 1");
+        this.fetchConcurrency = fetchConcurrency;
+    }
+
+    /**
+     * Sets the executor used to fetch pages concurrently (see {@link #setFetchConcurrency(int)}).
+     * Default is the {@link WorkerPool#shared() shared worker pool}.
+     *
+     * @param executor the executor, must not be {@code null}
+     */
+    public void setExecutor(final Executor executor) {
+        Validate.notNull(executor, "executor must not be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the number of times a page is fetched again if fetching it failed due to an I/O error or a
+     * server error - in addition to the retries of single requests. Malformed responses aren't retried.
+     * The pages already fetched are kept. Only applies to synchronous fetching -
+     * {@link #getAllAsync(String, Filter)} does not retry pages.
+     *
+     * @param pageRetries the maximum number of retries per page, must be &gt;= 0
+     * @param baseDelay   the base delay of the exponential backoff between retries
+     */
+    public void setPageRetries(final int pageRetries, final Duration baseDelay) {
+        Validate.isTrue(pageRetries >= 0, "pageRetries must be >= 0");
+        pageRetryPolicy = new RetryPolicy(pageRetries, baseDelay);
+    }
+
     public List<E> getAll(final String resource, final Filter filter) {
-        final List<E> records = new ArrayList<>();
+        final Map<String, String> params = buildParams(filter);
+
+        LOG.debug("Request first page with up to {} records", pageSize);
+        final T firstPage = fetchRecords(resource, params);
+
+        if (firstPage == null || firstPage.getTotal() == 0) {
+            LOG.debug("Fetched 0 record(s)");
+            return new ArrayList<>();
+        }
+
+        final List<E> records = new ArrayList<>(firstPage.getTotal());
+        records.addAll(firstPage.getEntries());
+
+        final int pages = pageCount(firstPage);
+        if (pages > 1) {
+            LOG.debug("Result consists of {} pages ({} records in total, up to {} records per page) - "
+                + "continue fetching...", pages, firstPage.getTotal(), firstPage.getPerPage());
+
+            if (fetchConcurrency > 1) {
+                fetchParallel(resource, params, pages, records);
+            } else {
+                fetchSequential(resource, params, pages, records);
+            }
+        }
+
+        LOG.debug("Fetched {} record(s) on {} page(s)", records.size(), pages);
+
+        return records;
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAll(String, Filter)}. No thread is blocked while waiting for
+     * responses. Up to {@code fetchConcurrency} pages are requested at the same time.
+     *
+     * @param resource the resource to fetch
+     * @param filter   the filter criteria, optional - may be {@code null}
+     * @return the future list of all records - completes exceptionally with a {@link ServiceException}
+     * if an error occurred while accessing the web service
+     */
+    public CompletableFuture<List<E>> getAllAsync(final String resource, final Filter filter) {
+        final Map<String, String> params = buildParams(filter);
 
+        LOG.debug("Request first page with up to {} records", pageSize);
+        return fetchRecordsAsync(resource, params).thenCompose(firstPage -> {
+            if (firstPage == null || firstPage.getTotal() == 0) {
+                return CompletableFuture.completedFuture(new ArrayList<>());
+            }
+            return fetchRemainingAsync(resource, params, firstPage);
+        });
+    }
+
+    private CompletableFuture<List<E>> fetchRemainingAsync(final String resource, final Map<String, String> params,
+                                                           final T firstPage) {
+
+        final int pages = pageCount(firstPage);
+        final AtomicReferenceArray<T> results = new AtomicReferenceArray<>(pages);
+        results.set(0, firstPage);
+
+        // Each lane fetches every n-th page sequentially - this limits the number of concurrent requests
+        final int lanes = Math.min(fetchConcurrency, Math.max(pages - 1, 1));
+        final CompletableFuture<?>[] laneFutures = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int page = 2 + lane; page <= pages; page += lanes) {
+                final int pageNo = page;
+                final Map<String, String> pageParams = new HashMap<>(params);
+                pageParams.put("page", Integer.toString(pageNo));
+                chain = chain.thenCompose(v -> fetchRecordsAsync(resource, pageParams))
+                    .thenAccept(recordWrapper -> results.set(pageNo - 1, recordWrapper));
+            }
+            laneFutures[lane] = chain;
+        }
+
+        return CompletableFuture.allOf(laneFutures).thenApply(v -> {
+            final List<E> records = new ArrayList<>(firstPage.getTotal());
+            for (int i = 0; i < pages; i++) {
+                final T recordWrapper = results.get(i);
+                if (recordWrapper != null) {
+                    records.addAll(recordWrapper.getEntries());
+                }
+            }
+            LOG.debug("Fetched {} record(s) on {} page(s)", records.size(), pages);
+            return records;
+        });
+    }
+
+    /**
+     * Counts the records of the given resource by requesting a single record and reading the total
+     * number of records from the response.
+     *
+     * @param resource the resource to count
+     * @param filter   the filter criteria, optional - may be {@code null}
+     * @return the number of records matching the filter
+     */
+    public int count(final String resource, final Filter filter) {
+        final T recordWrapper = fetchRecords(resource, countParams(filter));
+        return recordWrapper != null ? recordWrapper.getTotal() : 0;
+    }
+
+    /**
+     * Asynchronous variant of {@link #count(String, Filter)}.
+     *
+     * @param resource the resource to count
+     * @param filter   the filter criteria, optional - may be {@code null}
+     * @return the future number of records matching the filter - completes exceptionally with a
+     * {@link ServiceException} if an error occurred while accessing the web service
+     */
+    public CompletableFuture<Integer> countAsync(final String resource, final Filter filter) {
+        return fetchRecordsAsync(resource, countParams(filter))
+            .thenApply(recordWrapper -> recordWrapper != null ? recordWrapper.getTotal() : 0);
+    }
+
+    private static Map<String, String> countParams(final Filter filter) {
+        final Map<String, String> params = new HashMap<>();
+        if (filter != null) {
+            params.putAll(filter.toMap());
+        }
+        params.put("per_page", "1");
+        return params;
+    }
+
+    /**
+     * Streams all records of the given resource. Pages are fetched lazily while the stream is
+     * consumed, so only a single page of records is held in memory at any time.
+     *
+     * @param resource the resource to fetch
+     * @param filter   the filter criteria, optional - may be {@code null}
+     * @return a sequential, ordered stream of all records
+     */
+    public Stream<E> stream(final String resource, final Filter filter) {
+        return StreamSupport.stream(new PageSpliterator(resource, buildParams(filter)), false);
+    }
+
+    /**
+     * Fetches a single page.
+     *
+     * @param resource the resource to fetch
+     * @param params   the request parameters (see {@link #buildParams(Filter)})
+     * @param page     the page number (1-based)
+     * @return the page or {@code null} if the resource was not found
+     */
+    public T getPage(final String resource, final Map<String, String> params, final int page) {
+        final Map<String, String> pageParams = new HashMap<>(params);
+        pageParams.put("page", Integer.toString(page));
+        return fetchRecords(resource, pageParams);
+    }
+
+    /**
+     * @param filter the filter criteria, optional - may be {@code null}
+     * @return the request parameters for the given filter and the configured page size
+     */
+    public Map<String, String> buildParams(final Filter filter) {
         final Map<String, String> params = new HashMap<>();
         if (pageSize != DEFAULT_API_PAGE_SIZE) {
             params.put("per_page", Integer.toString(pageSize));
@@ -66,16 +276,22 @@ public class Pager<T extends Pageable<E>, E> {
         if (filter != null) {
             params.putAll(filter.toMap());
         }
+        return params;
+    }
 
-        int page = 1;
-        int pages = 1;
-        do {
-            if (page > 1) {
-                LOG.debug("Request page {} of {} (fetched {} records so far}", page, pages, records.size());
-                params.put("page", Integer.toString(page));
-            } else {
-                LOG.debug("Request first page with up to {} records", pageSize);
-            }
+    private int pageCount(final T recordWrapper) {
+        if (recordWrapper.getTotal() <= recordWrapper.getPerPage()) {
+            return 1;
+        }
+        return (int) Math.ceil((float) recordWrapper.getTotal() / (float) recordWrapper.getPerPage());
+    }
+
+    private void fetchSequential(final String resource, final Map<String, String> params, final int pages,
+                                 final List<E> records) {
+
+        for (int page = 2; page <= pages; page++) {
+            LOG.debug("Request page {} of {} (fetched {} records so far}", page, pages, records.size());
+            params.put("page", Integer.toString(page));
             final T recordWrapper = fetchRecords(resource, params);
 
             if (recordWrapper == null || recordWrapper.getTotal() == 0) {
@@ -83,29 +299,180 @@ public class Pager<T extends Pageable<E>, E> {
             }
 
             records.addAll(recordWrapper.getEntries());
+        }
+    }
+
+    private void fetchParallel(final String resource, final Map<String, String> params, final int pages,
+                               final List<E> records) {
+
+        final int concurrency = Math.min(fetchConcurrency, pages - 1);
+        LOG.debug("Request pages 2 to {} using {} concurrent requests", pages, concurrency);
+
+        final Executor boundedExecutor = new BoundedExecutor(executor, concurrency);
+        final AtomicBoolean failed = new AtomicBoolean();
+        final List<Future<T>> futures = new ArrayList<>(pages - 1);
+        for (int page = 2; page <= pages; page++) {
+            final Map<String, String> pageParams = new HashMap<>(params);
+            pageParams.put("page", Integer.toString(page));
 
-            if (page == 1 && recordWrapper.getTotal() > recordWrapper.getPerPage()) {
-                pages = (int) Math.ceil((float) recordWrapper.getTotal() / (float) recordWrapper.getPerPage());
-                LOG.debug("Result consists of {} pages ({} records in total, up to {} records per page) - "
-                    + "continue fetching...", pages, recordWrapper.getTotal(), recordWrapper.getPerPage());
+            // pages not yet started are skipped once a page failed
+            futures.add(CompletableFuture.supplyAsync(() -> failed.get() ? null : fetchRecords(resource, pageParams),
+                boundedExecutor).whenComplete((recordWrapper, e) -> {
+                    if (e != null) {
+                        failed.set(true);
+                    }
+                }));
+        }
+
+        // collect in submission order to keep the record order identical to sequential fetching -
+        // all requests are finished before returning, even if a page failed
+        ServiceException failure = null;
+        for (final Future<T> future : futures) {
+            try {
+                final T recordWrapper = await(future);
+                if (recordWrapper != null) {
+                    records.addAll(recordWrapper.getEntries());
+                }
+            } catch (final ServiceException e) {
+                if (failure == null) {
+                    failure = e;
+                }
             }
-        } while (pages > page++);
+        }
 
-        LOG.debug("Fetched {} record(s) on {} page(s)", records.size(), pages);
+        if (failure != null) {
+            throw failure;
+        }
+    }
 
-        return records;
+    private T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof ServiceException) {
+                throw (ServiceException) e.getCause();
+            }
+            throw new ServiceException(e.getCause());
+        }
     }
 
     private T fetchRecords(final String resource, final Map<String, String> params) {
+        int attempt = 0;
+        while (true) {
+            try {
+                return fetchRecordsOnce(resource, params);
+            } catch (final ServiceException e) {
+                if (attempt >= pageRetryPolicy.getMaxRetries() || !isRetryable(e)) {
+                    throw e;
+                }
+                final Duration delay = pageRetryPolicy.delay(attempt, null);
+                LOG.debug("Fetching page failed - retry {} of {} in {} ms", attempt + 1,
+                    pageRetryPolicy.getMaxRetries(), delay.toMillis(), e);
+                sleep(delay);
+                attempt++;
+            }
+        }
+    }
+
+    private static boolean isRetryable(final ServiceException e) {
+        if (e instanceof ServiceResponseException) {
+            return ((ServiceResponseException) e).getStatusCode() >= SC_SERVER_ERROR;
+        }
+
+        // a malformed response would most likely be malformed again
+        return e.getCause() instanceof IOException && !(e.getCause() instanceof JsonProcessingException);
+    }
+
+    private static void sleep(final Duration delay) {
         try {
-            final byte[] data = requestHelper.get(resource, null, null, params);
-            if (data == null) {
-                return null;
+            Thread.sleep(delay.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private T fetchRecordsOnce(final String resource, final Map<String, String> params) {
+        try {
+            final T recordWrapper = requestHelper.get(resource, null, null, params, objectReader);
+            if (recordWrapper != null) {
+                requestHelper.pageFetched(resource, recordWrapper);
             }
-            return objectReader.forType(clazz).readValue(data);
+            return recordWrapper;
+        } catch (final IOException e) {
+            throw new ServiceException(e);
+        }
+    }
+
+    private CompletableFuture<T> fetchRecordsAsync(final String resource, final Map<String, String> params) {
+        return requestHelper.getAsync(resource, null, null, params)
+            .thenApply(data -> readRecords(resource, data));
+    }
+
+    private T readRecords(final String resource, final byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            final T recordWrapper = requestHelper.decode(resource, objectReader, data);
+            requestHelper.pageFetched(resource, recordWrapper);
+            return recordWrapper;
         } catch (final IOException e) {
             throw new ServiceException(e);
         }
     }
 
+    private final class PageSpliterator extends Spliterators.AbstractSpliterator<E> {
+
+        private final String resource;
+        private final Map<String, String> params;
+        private Iterator<E> current = Collections.emptyIterator();
+        private int page;
+        private int pages = 1;
+
+        PageSpliterator(final String resource, final Map<String, String> params) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.resource = resource;
+            this.params = params;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super E> action) {
+            while (!current.hasNext()) {
+                if (page >= pages || !fetchNextPage()) {
+                    return false;
+                }
+            }
+
+            action.accept(current.next());
+            return true;
+        }
+
+        private boolean fetchNextPage() {
+            page++;
+            if (page > 1) {
+                LOG.debug("Request page {} of {}", page, pages);
+                params.put("page", Integer.toString(page));
+            } else {
+                LOG.debug("Request first page with up to {} records", pageSize);
+            }
+
+            final T recordWrapper = fetchRecords(resource, params);
+            if (recordWrapper == null || recordWrapper.getTotal() == 0) {
+                pages = page;
+                return false;
+            }
+
+            if (page == 1) {
+                pages = pageCount(recordWrapper);
+            }
+            current = recordWrapper.getEntries().iterator();
+            return true;
+        }
+
+    }
+
 }
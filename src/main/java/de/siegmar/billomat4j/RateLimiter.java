@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket based client side rate limiter.
+ * <p>
+ * Besides the configured request rate, the limiter also honors pauses requested by the server
+ * (via {@link #pauseUntil(long)}) when the request quota is used up.
+ */
+final class RateLimiter {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefill;
+    private long pausedUntil;
+
+    /**
+     * @param permitsPerSecond the number of permitted requests per second - {@code 0} for no limit
+     */
+    RateLimiter(final double permitsPerSecond) {
+        permitsPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        capacity = Math.max(1, Math.ceil(permitsPerSecond));
+        tokens = capacity;
+        lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Reserves a permit for one request.
+     *
+     * @return the number of nanoseconds the caller has to wait before sending the request
+     */
+    synchronized long reserve() {
+        final long now = System.nanoTime();
+        final long pause = Math.max(0, pausedUntil - now);
+
+        if (permitsPerNano <= 0) {
+            return pause;
+        }
+
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+        tokens -= 1;
+
+        final long wait = tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+        return Math.max(wait, pause);
+    }
+
+    /**
+     * Suspends all further requests until the given point in time.
+     *
+     * @param nanoTime the point in time (as of {@link System#nanoTime()}) to resume requests
+     */
+    synchronized void pauseUntil(final long nanoTime) {
+        if (nanoTime - pausedUntil > 0) {
+            pausedUntil = nanoTime;
+        }
+    }
+
+}
@@ -20,26 +20,42 @@
 package de.siegmar.billomat4j;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import de.siegmar.billomat4j.domain.Pageable;
+import de.siegmar.billomat4j.metrics.RequestListener;
 import de.siegmar.billomat4j.service.Billomat4JSettings;
 import de.siegmar.billomat4j.service.BillomatConfiguration;
 import de.siegmar.billomat4j.service.ServiceException;
+import de.siegmar.billomat4j.service.ServiceResponseException;
+import de.siegmar.billomat4j.transport.HttpTransport;
+import de.siegmar.billomat4j.transport.JdkHttpTransport;
+import de.siegmar.billomat4j.transport.TransportRequest;
+import de.siegmar.billomat4j.transport.TransportResponse;
 
+@SuppressWarnings({"checkstyle:classfanoutcomplexity", "checkstyle:classdataabstractioncoupling"})
 public class RequestHelper {
 
     private static final String CONTENT_TYPE = "application/json";
@@ -47,39 +63,260 @@ public class RequestHelper {
     private static final String HTTP_POST = "POST";
     private static final String HTTP_PUT = "PUT";
     private static final String HTTP_DELETE = "DELETE";
-    private static final int CONNECT_TIMEOUT = 10000;
-    private static final int READ_TIMEOUT = 60000;
     private static final String USER_AGENT = "Billomat4J/" + Billomat4JSettings.getVersion();
     private static final int SC_CLIENT_ERROR = 400;
+    private static final int SC_OK = 200;
+    private static final int SC_NOT_MODIFIED = 304;
     private static final int SC_NOT_FOUND = 404;
     private static final int SC_SERVER_ERROR = 500;
+    private static final int DEBUG_LOG_LIMIT = 64 * 1024;
     private static final Logger LOG = LoggerFactory.getLogger(RequestHelper.class);
 
     private final BillomatConfiguration billomatConfiguration;
-    private final HttpClient httpClient;
+    private final HttpTransport transport;
+    private final RateLimiter rateLimiter;
+    private final RetryPolicy retryPolicy;
+    private final EntityCache entityCache;
+    private final ConditionalCache conditionalCache;
+    private final SingleFlight<byte[]> singleFlight;
+    private final RequestListener requestListener;
 
     public RequestHelper(final BillomatConfiguration billomatConfiguration) {
         this.billomatConfiguration = billomatConfiguration;
-        httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofMillis(CONNECT_TIMEOUT))
-            .build();
+        transport = billomatConfiguration.getHttpTransport() != null
+            ? billomatConfiguration.getHttpTransport()
+            : new JdkHttpTransport(billomatConfiguration.getConnectTimeout());
+        rateLimiter = new RateLimiter(billomatConfiguration.getMaxRequestsPerSecond());
+        retryPolicy = new RetryPolicy(billomatConfiguration.getMaxRetries(), billomatConfiguration.getRetryBaseDelay());
+        entityCache = new EntityCache(billomatConfiguration.getCacheTtls().entrySet().stream()
+            .collect(Collectors.toMap(e -> e.getKey().getResourceName(), Map.Entry::getValue)),
+            billomatConfiguration.getCacheMaxEntries());
+        conditionalCache = billomatConfiguration.getConditionalCacheMaxBytes() > 0
+            ? new ConditionalCache(billomatConfiguration.getConditionalCacheMaxBytes(),
+                billomatConfiguration.getConditionalCacheDirectory())
+            : null;
+        singleFlight = billomatConfiguration.isCoalesceRequests() ? new SingleFlight<>() : null;
+        requestListener = billomatConfiguration.getRequestListener();
     }
 
     public byte[] get(final String resource, final String id, final String method, final Map<String, String> filter)
         throws IOException {
 
-        final HttpResponse<byte[]> res = sendAndReceive(resource, method, id, null, HTTP_GET, filter);
+        return getBuffered(resource, buildRequest(resource, method, id, null, HTTP_GET, filter));
+    }
+
+    /**
+     * Variant of {@link #get(String, String, String, Map)} that deserializes the response body while
+     * it is received - the body is not buffered in memory as a whole. Responses of cached or
+     * coalesced requests are buffered nevertheless.
+     *
+     * @param resource the resource to request
+     * @param id       the id of the record to request, may be {@code null}
+     * @param method   the resource method to request, may be {@code null}
+     * @param filter   the request parameters, may be {@code null}
+     * @param reader   the reader to deserialize the response with
+     * @param <T>      the type of the deserialized response
+     * @return the deserialized response or {@code null} if the requested resource was not found
+     * @throws IOException if an I/O error occurred while sending the request or reading the response
+     */
+    public <T> T get(final String resource, final String id, final String method, final Map<String, String> filter,
+                     final ObjectReader reader) throws IOException {
+
+        final TransportRequest request = buildRequest(resource, method, id, null, HTTP_GET, filter);
+        if (entityCache.isCacheable(resource) || isRevalidatable(request) || singleFlight != null) {
+            final byte[] data = getBuffered(resource, request);
+            return data == null ? null : decode(resource, reader, data);
+        }
+
+        final RequestTimer timer = newTimer(resource, request, null);
+        final TransportResponse res = send(request, timer);
+        if (isClientError(res.getStatusCode()) || isServerError(res.getStatusCode())) {
+            handleGetResponse(res.getStatusCode(), handleResponse(res, timer));
+            return null;
+        }
+
+        return decodeStream(reader, res, timer);
+    }
+
+    private byte[] getBuffered(final String resource, final TransportRequest request) throws IOException {
+        final byte[] cached = entityCache.get(resource, request.getUri());
+        if (cached != null) {
+            LOG.debug("Service response served from cache");
+            return cached;
+        }
+
+        return singleFlight != null
+            ? singleFlight.execute(flightKey(request), () -> fetch(resource, request))
+            : fetch(resource, request);
+    }
+
+    private byte[] fetch(final String resource, final TransportRequest request) throws IOException {
+        final long generation = entityCache.generation(resource);
+        final ConditionalCache.Entry stored = revalidationCandidate(request);
+        final RequestTimer timer = newTimer(resource, request, null);
+        final TransportResponse res = send(withValidators(request, stored), timer);
+        final byte[] body = revalidated(request, res,
+            handleGetResponse(res.getStatusCode(), handleResponse(res, timer)), stored);
+        entityCache.put(resource, request.getUri(), body, generation);
+        return body;
+    }
+
+    private static String flightKey(final TransportRequest request) {
+        return request.getMethod() + ' ' + request.getUri();
+    }
+
+    private boolean isRevalidatable(final TransportRequest request) {
+        return conditionalCache != null && request.getUri().getRawQuery() == null;
+    }
+
+    private ConditionalCache.Entry revalidationCandidate(final TransportRequest request) {
+        return isRevalidatable(request) ? conditionalCache.get(request.getUri()) : null;
+    }
+
+    private static TransportRequest withValidators(final TransportRequest request,
+                                                   final ConditionalCache.Entry stored) {
+        if (stored == null) {
+            return request;
+        }
+
+        final Map<String, String> headers = new LinkedHashMap<>(request.getHeaders());
+        if (stored.getEtag() != null) {
+            headers.put("If-None-Match", stored.getEtag());
+        }
+        if (stored.getLastModified() != null) {
+            headers.put("If-Modified-Since", stored.getLastModified());
+        }
+
+        return new TransportRequest(request.getMethod(), request.getUri(), headers, null, request.getTimeout());
+    }
+
+    /**
+     * Serves {@code 304 Not Modified} responses from the conditional cache and updates the cache
+     * with other responses.
+     */
+    private byte[] revalidated(final TransportRequest request, final TransportResponse res, final byte[] body,
+                               final ConditionalCache.Entry stored) {
+
+        if (!isRevalidatable(request)) {
+            return body;
+        }
+
+        if (res.getStatusCode() == SC_NOT_MODIFIED && stored != null) {
+            LOG.debug("Service response not modified - served from conditional cache");
+            return stored.getBody();
+        }
 
-        if (isClientError(res.statusCode())) {
-            if (res.statusCode() == SC_NOT_FOUND) {
+        final String etag = res.firstHeader("ETag").orElse(null);
+        final String lastModified = res.firstHeader("Last-Modified").orElse(null);
+        if (res.getStatusCode() == SC_OK && body != null && (etag != null || lastModified != null)) {
+            conditionalCache.put(request.getUri(), new ConditionalCache.Entry(etag, lastModified, body));
+        } else {
+            conditionalCache.remove(request.getUri());
+        }
+
+        return body;
+    }
+
+    /**
+     * Streaming variant of {@link #get(String, String, String, Map)} - the response body is not
+     * buffered in memory. The caller is responsible for closing the returned stream.
+     *
+     * @param resource the resource to request
+     * @param id       the id of the record to request, may be {@code null}
+     * @param method   the resource method to request, may be {@code null}
+     * @param filter   the request parameters, may be {@code null}
+     * @return the response body or {@code null} if the requested resource was not found
+     * @throws IOException if an I/O error occurred while sending the request
+     */
+    public InputStream getStream(final String resource, final String id, final String method,
+                                 final Map<String, String> filter) throws IOException {
+
+        final TransportRequest request = buildRequest(resource, method, id, null, HTTP_GET, filter);
+        final RequestTimer timer = newTimer(resource, request, null);
+        final TransportResponse res = send(request, timer);
+
+        if (res.getStatusCode() == SC_NOT_FOUND) {
+            handleResponse(res, timer);
+            return null;
+        }
+
+        if (isClientError(res.getStatusCode()) || isServerError(res.getStatusCode())) {
+            final byte[] body = handleResponse(res, timer);
+            throw new ServiceResponseException(res.getStatusCode(), new String(body, StandardCharsets.UTF_8));
+        }
+
+        LOG.debug("Service status response: {}", res.getStatusCode());
+        LOG.debug("Service response: [stream]");
+        return timer.meter(res.getStatusCode(), res.getBody());
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, String, String, Map)}. The returned future completes
+     * with {@code null} if the requested resource was not found and completes exceptionally with a
+     * {@link ServiceException} if the request failed.
+     *
+     * @param resource the resource to request
+     * @param id       the id of the record to request, may be {@code null}
+     * @param method   the resource method to request, may be {@code null}
+     * @param filter   the request parameters, may be {@code null}
+     * @return the future response body
+     */
+    public CompletableFuture<byte[]> getAsync(final String resource, final String id, final String method,
+                                              final Map<String, String> filter) {
+
+        final TransportRequest request = buildRequest(resource, method, id, null, HTTP_GET, filter);
+        final byte[] cached = entityCache.get(resource, request.getUri());
+        if (cached != null) {
+            LOG.debug("Service response served from cache");
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return singleFlight != null
+            ? singleFlight.executeAsync(flightKey(request), () -> fetchAsync(resource, request))
+            : fetchAsync(resource, request);
+    }
+
+    private CompletableFuture<byte[]> fetchAsync(final String resource, final TransportRequest request) {
+        final long generation = entityCache.generation(resource);
+        final ConditionalCache.Entry stored = revalidationCandidate(request);
+        final RequestTimer timer = newTimer(resource, request, null);
+        return sendAsync(withValidators(request, stored), timer, 0)
+            .thenApply(res -> {
+                try {
+                    final byte[] body = revalidated(request, res,
+                        handleGetResponse(res.getStatusCode(), handleResponse(res, timer)), stored);
+                    entityCache.put(resource, request.getUri(), body, generation);
+                    return body;
+                } catch (final IOException e) {
+                    throw new ServiceException(e);
+                }
+            })
+            .whenComplete((body, ex) -> failOnException(timer, ex))
+            .handle(RequestHelper::unwrapIOException);
+    }
+
+    private static <T> T unwrapIOException(final T result, final Throwable ex) {
+        if (ex == null) {
+            return result;
+        }
+
+        final Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof IOException) {
+            throw new ServiceException(cause);
+        }
+        throw new CompletionException(cause);
+    }
+
+    private byte[] handleGetResponse(final int statusCode, final byte[] body) {
+        if (isClientError(statusCode)) {
+            if (statusCode == SC_NOT_FOUND) {
                 return null;
             }
 
-            throw new ServiceException("Service error response: code=" + res.statusCode()
-                + ", data=" + new String(res.body(), StandardCharsets.UTF_8));
+            throw new ServiceResponseException(statusCode, new String(body, StandardCharsets.UTF_8));
         }
 
-        return res.body();
+        return body;
     }
 
     private boolean isClientError(final int statusCode) {
@@ -90,8 +327,8 @@ public class RequestHelper {
         return statusCode >= SC_SERVER_ERROR;
     }
 
-    private boolean isBinaryContent(final HttpResponse<byte[]> connection) {
-        final Optional<String> contentType = connection.headers().firstValue("Content-Type");
+    private boolean isBinaryContent(final TransportResponse res) {
+        final Optional<String> contentType = res.firstHeader("Content-Type");
         return contentType.isPresent() && contentType.get().startsWith("image/");
     }
 
@@ -102,84 +339,322 @@ public class RequestHelper {
     public byte[] post(final String resource, final String id, final String method, final byte[] data)
         throws IOException {
 
-        return sendAndReceive(resource, method, id, data, HTTP_POST, null).body();
+        return sendAndReceive(resource, method, id, data, HTTP_POST, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #post(String, String, byte[])}. The returned future completes
+     * exceptionally with a {@link ServiceException} if the request failed or was rejected.
+     *
+     * @param resource the resource to post to
+     * @param method   the resource method, may be {@code null}
+     * @param data     the request body
+     * @return the future response body
+     */
+    public CompletableFuture<byte[]> postAsync(final String resource, final String method, final byte[] data) {
+        final TransportRequest request = buildRequest(resource, method, null, data, HTTP_POST, null);
+        final RequestTimer timer = newTimer(resource, request, data);
+
+        return sendAsync(request, timer, 0)
+            .thenApply(res -> {
+                try {
+                    final byte[] body = handleResponse(res, timer);
+                    if (isClientError(res.getStatusCode())) {
+                        throw new ServiceResponseException(res.getStatusCode(),
+                            new String(body, StandardCharsets.UTF_8));
+                    }
+                    return body;
+                } catch (final IOException e) {
+                    throw new ServiceException(e);
+                }
+            })
+            .whenComplete((body, ex) -> {
+                failOnException(timer, ex);
+                entityCache.invalidate(resource);
+            })
+            .handle(RequestHelper::unwrapIOException);
     }
 
     public byte[] put(final String resource, final String method, final String id, final byte[] data)
         throws IOException {
 
-        return sendAndReceive(resource, method, id, data, HTTP_PUT, null).body();
+        return sendAndReceive(resource, method, id, data, HTTP_PUT, null);
     }
 
-    private HttpResponse<byte[]> sendAndReceive(final String resource, final String method, final String id,
-                                                final byte[] data, final String type, final Map<String, String> filter)
+    private byte[] sendAndReceive(final String resource, final String method, final String id,
+                                  final byte[] data, final String type, final Map<String, String> filter)
         throws IOException {
 
-        // build request
-        final URI uri = buildUrl(resource, id, method, filter);
-        final HttpRequest request = prepareRequest(data, type, uri);
+        try {
+            final TransportRequest request = buildRequest(resource, method, id, data, type, filter);
+            final RequestTimer timer = newTimer(resource, request, data);
+            return handleResponse(send(request, timer), timer);
+        } finally {
+            entityCache.invalidate(resource);
+        }
+    }
 
-        LOG.debug("HTTP request: {}", request);
-        if (data != null && data.length > 0 && LOG.isDebugEnabled()) {
-            LOG.debug("Service request: {}", new String(data, StandardCharsets.UTF_8));
+    private RequestTimer newTimer(final String resource, final TransportRequest request, final byte[] data) {
+        return new RequestTimer(requestListener, resource, request.getMethod(), data == null ? 0 : data.length);
+    }
+
+    private static void failOnException(final RequestTimer timer, final Throwable ex) {
+        if (ex != null) {
+            timer.failed();
+        }
+    }
+
+    private TransportResponse send(final TransportRequest request, final RequestTimer timer) throws IOException {
+        int attempt = 0;
+        while (true) {
+            final long wait = rateLimiter.reserve();
+            timer.waited(wait);
+            sleep(wait);
+
+            final long start = System.nanoTime();
+            final TransportResponse res;
+            try {
+                res = transport.send(request);
+            } catch (final IOException e) {
+                timer.failed();
+                throw e;
+            }
+            timer.sent(start);
+
+            updateRateLimit(res);
+            if (!retryPolicy.shouldRetry(res.getStatusCode(), request.getMethod(), attempt)) {
+                return decompress(res);
+            }
+
+            res.close();
+            final long retryDelay = retryDelay(res, attempt++).toNanos();
+            timer.retried();
+            timer.waited(retryDelay);
+            sleep(retryDelay);
+        }
+    }
+
+    private CompletableFuture<TransportResponse> sendAsync(final TransportRequest request, final RequestTimer timer,
+                                                           final int attempt) {
+        final long wait = rateLimiter.reserve();
+        timer.waited(wait);
+
+        return delay(wait)
+            .thenCompose(v -> {
+                final long start = System.nanoTime();
+                return transport.sendAsync(request).thenApply(res -> {
+                    timer.sent(start);
+                    return res;
+                });
+            })
+            .thenCompose(res -> {
+                updateRateLimit(res);
+                if (!retryPolicy.shouldRetry(res.getStatusCode(), request.getMethod(), attempt)) {
+                    try {
+                        return CompletableFuture.completedFuture(decompress(res));
+                    } catch (final IOException e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                }
+                closeQuietly(res);
+                final long retryDelay = retryDelay(res, attempt).toNanos();
+                timer.retried();
+                timer.waited(retryDelay);
+                return delay(retryDelay)
+                    .thenCompose(v -> sendAsync(request, timer, attempt + 1));
+            });
+    }
+
+    private static TransportResponse decompress(final TransportResponse res) throws IOException {
+        final Optional<String> contentEncoding = res.firstHeader("Content-Encoding");
+        if (contentEncoding.isEmpty()) {
+            return res;
+        }
+
+        LOG.debug("Service response content encoding: {}", contentEncoding.get());
+        final InputStream body = Compression.decode(contentEncoding.get(), res.getBody());
+        return new TransportResponse(res.getStatusCode(), res.getHeaders(), body);
+    }
+
+    private static void closeQuietly(final TransportResponse res) {
+        try {
+            res.close();
+        } catch (final IOException e) {
+            LOG.debug("Failed to close discarded response", e);
         }
+    }
 
-        // send request
-        final HttpResponse<byte[]> res;
+    private static void sleep(final long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
         try {
-            res = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            TimeUnit.NANOSECONDS.sleep(nanos);
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new IllegalStateException(e);
         }
+    }
 
-        // handle response
-        LOG.debug("Service status response: {}", res.statusCode());
-        if (isServerError(res.statusCode())) {
-            throw new ServiceException("Service error response: code=" + res.statusCode()
-                + ", data=" + new String(res.body(), StandardCharsets.UTF_8));
+    private static CompletableFuture<Void> delay(final long nanos) {
+        if (nanos <= 0) {
+            return CompletableFuture.completedFuture(null);
         }
+        return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(nanos, TimeUnit.NANOSECONDS));
+    }
 
-        if (res.body() != null && res.body().length > 0 && LOG.isDebugEnabled()) {
-            LOG.debug("Service response: {}",
-                isBinaryContent(res) ? "[binary]" : new String(res.body(), StandardCharsets.UTF_8));
+    private Duration retryDelay(final TransportResponse res, final int attempt) {
+        final Duration delay = retryPolicy.delay(attempt, res.firstHeader("Retry-After").orElse(null));
+        LOG.debug("Service status response: {} - retry {} of {} in {} ms", res.getStatusCode(), attempt + 1,
+            retryPolicy.getMaxRetries(), delay.toMillis());
+        return delay;
+    }
+
+    /**
+     * Pauses all further requests if the response indicates that the request quota is used up.
+     *
+     * @param res the response to check for rate limit headers
+     */
+    private void updateRateLimit(final TransportResponse res) {
+        final Optional<String> remaining = res.firstHeader("X-Rate-Limit-Remaining");
+        final Optional<String> reset = res.firstHeader("X-Rate-Limit-Reset");
+        if (remaining.isEmpty() || reset.isEmpty() || NumberUtils.toLong(remaining.get().trim(), -1) != 0) {
+            return;
         }
 
-        return res;
+        final Instant resetTime = Instant.ofEpochSecond(NumberUtils.toLong(reset.get().trim()));
+        final Duration wait = Duration.between(Instant.now(), resetTime);
+        if (!wait.isNegative()) {
+            LOG.debug("Request quota used up - pause requests for {} ms", wait.toMillis());
+            rateLimiter.pauseUntil(System.nanoTime() + wait.toNanos());
+        }
     }
 
-    private HttpRequest prepareRequest(final byte[] data, final String type, final URI uri) {
+    private TransportRequest buildRequest(final String resource, final String method, final String id,
+                                          final byte[] data, final String type, final Map<String, String> filter) {
+
+        final URI uri = buildUrl(resource, id, method, filter);
+        final Map<String, String> headers = prepareHeaders();
+        byte[] body = data;
         if (data != null) {
-            return prepareConnection(uri)
-                .setHeader("Content-Type", CONTENT_TYPE)
-                .method(type, HttpRequest.BodyPublishers.ofByteArray(data))
-                .build();
+            headers.put("Content-Type", CONTENT_TYPE);
+
+            final int compressionThreshold = billomatConfiguration.getRequestCompressionThreshold();
+            if (compressionThreshold > 0 && data.length >= compressionThreshold) {
+                headers.put("Content-Encoding", Compression.GZIP);
+                body = Compression.gzip(data);
+            }
         }
 
-        return prepareConnection(uri)
-            .method(type, HttpRequest.BodyPublishers.noBody())
-            .build();
+        final TransportRequest request =
+            new TransportRequest(type, uri, headers, body, billomatConfiguration.getRequestTimeout());
+
+        LOG.debug("HTTP request: {}", request);
+        if (data != null && data.length > 0 && LOG.isDebugEnabled()) {
+            LOG.debug("Service request: {}", new String(data, StandardCharsets.UTF_8));
+        }
+
+        return request;
+    }
+
+    private byte[] handleResponse(final TransportResponse res, final RequestTimer timer) throws IOException {
+        final long start = System.nanoTime();
+        final byte[] body;
+        try (res) {
+            body = res.getBody().readAllBytes();
+        } catch (final IOException e) {
+            timer.failed();
+            throw e;
+        }
+        timer.completed(res.getStatusCode(), body.length, System.nanoTime() - start);
+
+        LOG.debug("Service status response: {}", res.getStatusCode());
+        if (isServerError(res.getStatusCode())) {
+            throw new ServiceResponseException(res.getStatusCode(), new String(body, StandardCharsets.UTF_8));
+        }
+
+        if (body.length > 0 && LOG.isDebugEnabled()) {
+            LOG.debug("Service response: {}",
+                isBinaryContent(res) ? "[binary]" : new String(body, StandardCharsets.UTF_8));
+        }
+
+        return body;
+    }
+
+    /**
+     * Deserializes a response and reports the time spent to the configured {@link RequestListener}.
+     *
+     * @param resource the requested resource
+     * @param reader   the reader to deserialize the response with
+     * @param data     the response body
+     * @param <T>      the type of the deserialized response
+     * @return the deserialized response
+     * @throws IOException if the response could not be deserialized
+     */
+    public <T> T decode(final String resource, final ObjectReader reader, final byte[] data) throws IOException {
+        if (requestListener == null) {
+            return reader.readValue(data);
+        }
+
+        final long start = System.nanoTime();
+        final T value = reader.readValue(data);
+        requestListener.responseDecoded(resource, data.length, Duration.ofNanos(System.nanoTime() - start));
+        return value;
+    }
+
+    void pageFetched(final String resource, final Pageable<?> page) {
+        if (requestListener != null) {
+            requestListener.pageFetched(resource, page.getPage() != null ? page.getPage() : 1,
+                page.getEntries().size());
+        }
+    }
+
+    private <T> T decodeStream(final ObjectReader reader, final TransportResponse res, final RequestTimer timer)
+        throws IOException {
+
+        LOG.debug("Service status response: {}", res.getStatusCode());
+        final BoundedTeeInputStream tee = LOG.isDebugEnabled()
+            ? new BoundedTeeInputStream(res.getBody(), DEBUG_LOG_LIMIT) : null;
+
+        try (res; InputStream in = timer.meter(res.getStatusCode(), tee != null ? tee : res.getBody());
+             JsonParser parser = reader.createParser(in)) {
+
+            // the stream is drained below - regardless of the reader's configuration
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            final T value = reader.readValue(parser);
+
+            // consume trailing whitespace - an entirely consumed response allows reusing the connection
+            in.transferTo(OutputStream.nullOutputStream());
+
+            return value;
+        } finally {
+            if (tee != null) {
+                LOG.debug("Service response: {}", tee);
+            }
+        }
     }
 
     public void delete(final String resource, final String id) throws IOException {
         sendAndReceive(resource, null, id, null, HTTP_DELETE, null);
     }
 
-    private HttpRequest.Builder prepareConnection(final URI uri) {
-        final HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
-            .timeout(Duration.ofMillis(READ_TIMEOUT))
-            .setHeader("Accept", CONTENT_TYPE)
-            .setHeader("User-Agent", USER_AGENT)
-            .setHeader("X-BillomatApiKey", billomatConfiguration.getApiKey());
+    private Map<String, String> prepareHeaders() {
+        final Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Accept", CONTENT_TYPE);
+        if (billomatConfiguration.isCompressResponses()) {
+            headers.put("Accept-Encoding", Compression.ACCEPT_ENCODING);
+        }
+        headers.put("User-Agent", USER_AGENT);
+        headers.put("X-BillomatApiKey", billomatConfiguration.getApiKey());
 
         if (billomatConfiguration.getAppId() != null) {
-            builder.setHeader("X-AppId", billomatConfiguration.getAppId());
+            headers.put("X-AppId", billomatConfiguration.getAppId());
         }
         if (billomatConfiguration.getAppSecret() != null) {
-            builder.setHeader("X-AppSecret", billomatConfiguration.getAppSecret());
+            headers.put("X-AppSecret", billomatConfiguration.getAppSecret());
         }
 
-        return builder;
+        return headers;
     }
 
     URI buildUrl(final String resource, final String id, final String method,
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+import de.siegmar.billomat4j.metrics.RequestListener;
+import de.siegmar.billomat4j.metrics.RequestMetrics;
+
+/**
+ * Collects the timings of a single request (including its retries) and reports them to the
+ * configured {@link RequestListener}. Not thread-safe - the attempts of a request are sequential.
+ */
+final class RequestTimer {
+
+    private final RequestListener listener;
+    private final String resource;
+    private final String httpMethod;
+    private final long requestBytes;
+    private long waitNanos;
+    private long sendNanos;
+    private int retries;
+    private boolean completed;
+
+    RequestTimer(final RequestListener listener, final String resource, final String httpMethod,
+                 final long requestBytes) {
+        this.listener = listener;
+        this.resource = resource;
+        this.httpMethod = httpMethod;
+        this.requestBytes = requestBytes;
+    }
+
+    void waited(final long nanos) {
+        waitNanos += Math.max(0, nanos);
+    }
+
+    void sent(final long startNanos) {
+        sendNanos += System.nanoTime() - startNanos;
+    }
+
+    void retried() {
+        retries++;
+    }
+
+    void completed(final int statusCode, final long responseBytes, final long receiveNanos) {
+        if (listener == null || completed) {
+            return;
+        }
+
+        completed = true;
+        listener.requestCompleted(new RequestMetrics(resource, httpMethod, statusCode, requestBytes,
+            responseBytes, retries, Duration.ofNanos(waitNanos), Duration.ofNanos(sendNanos),
+            Duration.ofNanos(receiveNanos)));
+    }
+
+    /**
+     * Reports the request as failed without response - unless it has already been completed.
+     */
+    void failed() {
+        completed(0, 0, 0);
+    }
+
+    /**
+     * Wraps a streamed response body - the request is completed when the stream is closed.
+     *
+     * @param statusCode the response status code
+     * @param in         the response body
+     * @return the wrapped response body
+     */
+    InputStream meter(final int statusCode, final InputStream in) {
+        if (listener == null) {
+            return in;
+        }
+
+        final long start = System.nanoTime();
+        return new FilterInputStream(in) {
+
+            private long bytes;
+
+            @Override
+            public int read() throws IOException {
+                final int b = super.read();
+                if (b >= 0) {
+                    bytes++;
+                }
+                return b;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                final int n = super.read(b, off, len);
+                if (n > 0) {
+                    bytes += n;
+                }
+                return n;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    completed(statusCode, bytes, System.nanoTime() - start);
+                }
+            }
+
+        };
+    }
+
+}
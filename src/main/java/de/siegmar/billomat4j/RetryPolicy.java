@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+/**
+ * Decides if a request should be retried and how long to wait before the next attempt.
+ * <p>
+ * Throttled ({@code 429}) responses are retried for all request types, as the server rejected the
+ * request before processing it. Bad gateway ({@code 502}), unavailable ({@code 503}) and gateway
+ * timeout ({@code 504}) responses are only retried for idempotent requests, as the request might have
+ * been processed nevertheless - e.g. if an intermediary reports an overloaded backend.
+ */
+final class RetryPolicy {
+
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    private static final int SC_BAD_GATEWAY = 502;
+    private static final int SC_SERVICE_UNAVAILABLE = 503;
+    private static final int SC_GATEWAY_TIMEOUT = 504;
+    private static final Duration MAX_DELAY = Duration.ofSeconds(60);
+    private static final int MAX_BACKOFF_EXPONENT = 16;
+
+    private final int maxRetries;
+    private final Duration baseDelay;
+
+    RetryPolicy(final int maxRetries, final Duration baseDelay) {
+        this.maxRetries = maxRetries;
+        this.baseDelay = baseDelay;
+    }
+
+    int getMaxRetries() {
+        return maxRetries;
+    }
+
+    boolean shouldRetry(final int statusCode, final String requestMethod, final int attempt) {
+        if (attempt >= maxRetries) {
+            return false;
+        }
+
+        switch (statusCode) {
+            case SC_TOO_MANY_REQUESTS:
+                return true;
+            case SC_BAD_GATEWAY:
+            case SC_SERVICE_UNAVAILABLE:
+            case SC_GATEWAY_TIMEOUT:
+                return !"POST".equals(requestMethod);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Calculates the delay before the next attempt - an exponential backoff with full jitter that
+     * is never shorter than the delay requested by the server. The delay is capped at 60 seconds -
+     * a longer {@code Retry-After} is truncated, so the retry may be throttled again.
+     *
+     * @param attempt    the number of the failed attempt (starting with 0)
+     * @param retryAfter the value of the {@code Retry-After} response header (in seconds), may be
+     *                   {@code null}
+     * @return the delay before the next attempt
+     */
+    Duration delay(final int attempt, final String retryAfter) {
+        final long maxMillis = MAX_DELAY.toMillis();
+        final long backoff = Math.min(maxMillis, baseDelay.toMillis() << Math.min(attempt, MAX_BACKOFF_EXPONENT));
+        final long jittered = ThreadLocalRandom.current().nextLong(backoff + 1);
+        // HTTP-date values are not supported - fall back to the calculated backoff
+        final long requested = retryAfter == null ? 0
+            : Duration.ofSeconds(NumberUtils.toLong(retryAfter.trim())).toMillis();
+
+        return Duration.ofMillis(Math.min(maxMillis, Math.max(jittered, requested)));
+    }
+
+}
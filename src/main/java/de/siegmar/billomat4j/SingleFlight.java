@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import de.siegmar.billomat4j.service.ServiceException;
+import de.siegmar.billomat4j.service.ServiceResponseException;
+
+/**
+ * Coalesces concurrent calls with the same key - only the first caller (the leader) performs the
+ * call, all callers arriving while it is in flight share its result. Completed calls are not
+ * remembered, so this is no cache.
+ *
+ * @param <V> the type of the call result
+ */
+final class SingleFlight<V> {
+
+    private final ConcurrentMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Performs the call or waits for the result of an identical call already in flight.
+     *
+     * @param key  the key identifying identical calls
+     * @param call the call to perform
+     * @return the result of the call
+     * @throws IOException if the call failed with an I/O error
+     */
+    V execute(final String key, final Call<V> call) throws IOException {
+        final CompletableFuture<V> promise = new CompletableFuture<>();
+        final CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            final V result = call.call();
+            promise.complete(result);
+            return result;
+        } catch (final IOException | ServiceException e) {
+            promise.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, promise);
+            if (!promise.isDone()) {
+                promise.completeExceptionally(new ServiceException("Coalesced request failed"));
+            }
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #execute(String, Call)}.
+     *
+     * @param key  the key identifying identical calls
+     * @param call the call to perform
+     * @return the future result of the call
+     */
+    CompletableFuture<V> executeAsync(final String key, final Supplier<CompletableFuture<V>> call) {
+        final CompletableFuture<V> promise = new CompletableFuture<>();
+        final CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            // a copy, so callers can't complete (or cancel) the future shared with others
+            return existing.copy();
+        }
+
+        boolean started = false;
+        try {
+            call.get().whenComplete((result, ex) -> {
+                inFlight.remove(key, promise);
+                if (ex != null) {
+                    promise.completeExceptionally(ex);
+                } else {
+                    promise.complete(result);
+                }
+            });
+            started = true;
+        } finally {
+            // the call failed before returning a future - release the followers
+            if (!started) {
+                inFlight.remove(key, promise);
+                promise.completeExceptionally(new ServiceException("Coalesced request failed"));
+            }
+        }
+
+        return promise.copy();
+    }
+
+    private static <V> V await(final CompletableFuture<V> future) throws IOException {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            // keep the type of the leader's failure - callers (e.g. the page retry) decide by it
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof ServiceResponseException) {
+                throw new ServiceResponseException((ServiceResponseException) cause);
+            }
+            if (cause instanceof ServiceException) {
+                throw new ServiceException(cause.getMessage(), cause);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A call that may fail with an {@link IOException}.
+     *
+     * @param <V> the type of the call result
+     */
+    @FunctionalInterface
+    interface Call<V> {
+
+        V call() throws IOException;
+
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The worker threads shared by all services - used for blocking work (e.g. concurrently fetched pages)
+ * unless a dedicated executor is configured. Threads are created on demand, are daemon threads and
+ * terminate after being idle for a minute. The number of concurrently used threads is limited by the
+ * callers (see {@link BoundedExecutor}).
+ */
+public final class WorkerPool {
+
+    private WorkerPool() {
+    }
+
+    public static ExecutorService shared() {
+        return Holder.EXECUTOR;
+    }
+
+    private static final class Holder {
+
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new WorkerThreadFactory());
+
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r, "billomat4j-worker-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.domain;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import de.siegmar.billomat4j.json.LazyRecordDeserializer;
+
+/**
+ * A record of a list that is bound to its domain object not until it is accessed by {@link #get()}.
+ * Until then only the compact JSON of the record is held. Single properties can be read by
+ * {@link #peek(String)} without binding the whole record - e.g. for filtering records before
+ * processing them.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @param <E> the type of the record
+ */
+@JsonDeserialize(using = LazyRecordDeserializer.class)
+public final class LazyRecord<E> implements Identifiable {
+
+    private final Integer id;
+    private final byte[] json;
+    private final ObjectReader reader;
+    private E record;
+
+    static {
+        LazyRecordDeserializer.installRecordFactory(LazyRecord::new);
+    }
+
+    /**
+     * Records are created while reading lists.
+     *
+     * @param id     the id of the record
+     * @param json   the JSON of the record (without root name)
+     * @param reader the reader binding the JSON to the record
+     */
+    private LazyRecord(final Integer id, final byte[] json, final ObjectReader reader) {
+        this.id = id;
+        this.json = json;
+        this.reader = reader;
+    }
+
+    @Override
+    public Integer getId() {
+        return id;
+    }
+
+    /**
+     * Reads a single property without binding the record. Only properties with a scalar value
+     * (e.g. status or client id) can be read.
+     *
+     * @param property the property name as named by the API (e.g. {@code client_id})
+     * @return the value of the property as text - empty if the property is missing, {@code null} or
+     * no scalar value
+     * @throws UncheckedIOException if the JSON of the record couldn't be read
+     */
+    public Optional<String> peek(final String property) {
+        try (JsonParser parser = reader.getFactory().createParser(json)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final boolean match = property.equals(parser.getCurrentName());
+                final JsonToken value = parser.nextToken();
+                if (match) {
+                    return value.isScalarValue() && value != JsonToken.VALUE_NULL
+                        ? Optional.of(parser.getText()) : Optional.empty();
+                }
+                parser.skipChildren();
+            }
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Binds the record on the first call.
+     *
+     * @return the record
+     * @throws UncheckedIOException if the JSON of the record couldn't be bound
+     */
+    public synchronized E get() {
+        if (record == null) {
+            try {
+                record = reader.readValue(json);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return record;
+    }
+
+    /**
+     * @return the size of the JSON held by this record in bytes
+     */
+    public int getSize() {
+        return json.length;
+    }
+
+    @Override
+    public String toString() {
+        return "LazyRecord [id=" + id + ", size=" + json.length + "]";
+    }
+
+}
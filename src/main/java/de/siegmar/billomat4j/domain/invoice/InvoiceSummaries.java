@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.domain.invoice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import de.siegmar.billomat4j.domain.AbstractPageable;
+
+@JsonRootName("invoices")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class InvoiceSummaries extends AbstractPageable<InvoiceSummary> {
+
+    @JsonProperty("invoice")
+    private List<InvoiceSummary> invoiceSummaries = new ArrayList<>();
+
+    public List<InvoiceSummary> getInvoiceSummaries() {
+        return invoiceSummaries;
+    }
+
+    public void setInvoiceSummaries(final List<InvoiceSummary> invoiceSummaries) {
+        this.invoiceSummaries = invoiceSummaries;
+    }
+
+    @JsonIgnore
+    @Override
+    public List<InvoiceSummary> getEntries() {
+        return invoiceSummaries;
+    }
+
+}
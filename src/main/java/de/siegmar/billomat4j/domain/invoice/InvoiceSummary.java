@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.domain.invoice;
+
+import java.time.LocalDate;
+import java.util.Currency;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import de.siegmar.billomat4j.domain.AbstractIdentifiable;
+import de.siegmar.billomat4j.json.CentsDeserializer;
+
+/**
+ * A read-only projection of an {@link Invoice} for large lists. All other properties of the invoice are
+ * skipped while reading, amounts are provided in cents.
+ */
+@JsonRootName("invoice")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class InvoiceSummary extends AbstractIdentifiable {
+
+    private Integer clientId;
+    private String invoiceNumber;
+    private InvoiceStatus status;
+    private LocalDate date;
+    private LocalDate dueDate;
+    private Currency currencyCode;
+
+    @JsonProperty("total_gross")
+    @JsonDeserialize(using = CentsDeserializer.class)
+    private long totalGrossCents;
+
+    @JsonProperty("total_net")
+    @JsonDeserialize(using = CentsDeserializer.class)
+    private long totalNetCents;
+
+    @JsonProperty("open_amount")
+    @JsonDeserialize(using = CentsDeserializer.class)
+    private long openAmountCents;
+
+    public Integer getClientId() {
+        return clientId;
+    }
+
+    public String getInvoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public InvoiceStatus getStatus() {
+        return status;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public Currency getCurrencyCode() {
+        return currencyCode;
+    }
+
+    /**
+     * @return the gross total in cents
+     */
+    public long getTotalGrossCents() {
+        return totalGrossCents;
+    }
+
+    /**
+     * @return the net total in cents
+     */
+    public long getTotalNetCents() {
+        return totalNetCents;
+    }
+
+    /**
+     * @return the open amount in cents - {@code 0} if not provided
+     */
+    public long getOpenAmountCents() {
+        return openAmountCents;
+    }
+
+}
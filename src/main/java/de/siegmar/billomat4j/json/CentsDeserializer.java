@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.json;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+/**
+ * Deserializes decimal amounts (e.g. {@code "12.50"}) to cents (e.g. {@code 1250}) - rounded half up.
+ * Missing and empty amounts are deserialized to {@code 0}.
+ */
+public class CentsDeserializer extends JsonDeserializer<Long> {
+
+    private static final int CENT_DIGITS = 2;
+
+    @Override
+    public Long deserialize(final JsonParser jp, final DeserializationContext ctxt) throws IOException {
+        final String text = jp.getText().trim();
+        if (text.isEmpty()) {
+            return 0L;
+        }
+
+        return new BigDecimal(text).movePointRight(CENT_DIGITS).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    @Override
+    public Long getNullValue(final DeserializationContext ctxt) {
+        return 0L;
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.json;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.NumberDeserializers;
+
+/**
+ * Deserializes decimals like the default deserializer but returns a shared instance for repeated
+ * values of the given properties (e.g. tax rates). Decimals of other properties (e.g. amounts) are
+ * deserialized by the default deserializer. Values are only considered equal if their scale is equal, too.
+ */
+public class DeduplicatingBigDecimalDeserializer extends NumberDeserializers.BigDecimalDeserializer
+    implements ContextualDeserializer {
+
+    /**
+     * The (JSON) names of properties with few distinct values.
+     */
+    public static final Set<String> DEFAULT_PROPERTIES = Set.of("discount_rate", "quantity", "quote", "rate",
+        "tax_rate");
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ValuePool<BigDecimal> pool;
+    private final Set<String> propertyNames;
+
+    /**
+     * @param pool          the pool of shared values
+     * @param propertyNames the (JSON) names of the properties to deduplicate
+     */
+    public DeduplicatingBigDecimalDeserializer(final ValuePool<BigDecimal> pool, final Set<String> propertyNames) {
+        this.pool = pool;
+        this.propertyNames = Set.copyOf(propertyNames);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(final DeserializationContext ctxt, final BeanProperty property) {
+        return property != null && propertyNames.contains(property.getName())
+            ? this
+            : NumberDeserializers.BigDecimalDeserializer.instance;
+    }
+
+    @Override
+    public BigDecimal deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        return pool.canonicalize(super.deserialize(p, ctxt));
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.json;
+
+import java.io.IOException;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+/**
+ * Deserializes strings like the default deserializer but returns a shared instance for repeated
+ * values of the given properties (e.g. status or currency codes). Strings of other properties - likely
+ * to be unique (e.g. titles or notes) - are deserialized by the default deserializer, so they don't
+ * fill up the pool. Long strings aren't deduplicated.
+ */
+public class DeduplicatingStringDeserializer extends StringDeserializer implements ContextualDeserializer {
+
+    /**
+     * The (JSON) names of properties with few distinct values.
+     */
+    public static final Set<String> DEFAULT_PROPERTIES = Set.of("address", "country_code", "currency_code",
+        "number_pre", "status", "supply_date_type", "tax_name", "unit");
+
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_LENGTH = 256;
+
+    private final transient ValuePool<String> pool;
+    private final Set<String> propertyNames;
+
+    /**
+     * @param pool          the pool of shared values
+     * @param propertyNames the (JSON) names of the properties to deduplicate
+     */
+    public DeduplicatingStringDeserializer(final ValuePool<String> pool, final Set<String> propertyNames) {
+        this.pool = pool;
+        this.propertyNames = Set.copyOf(propertyNames);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(final DeserializationContext ctxt, final BeanProperty property) {
+        return property != null && propertyNames.contains(property.getName()) ? this : StringDeserializer.instance;
+    }
+
+    @Override
+    public String deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        final String value = super.deserialize(p, ctxt);
+        return value != null && value.length() <= MAX_LENGTH ? pool.canonicalize(value) : value;
+    }
+
+}
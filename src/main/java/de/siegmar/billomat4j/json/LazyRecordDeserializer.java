@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.json;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.Validate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+
+import de.siegmar.billomat4j.domain.LazyRecord;
+
+/**
+ * Captures the JSON of a record instead of binding it. The reader for binding the record later is
+ * looked up by the injectable value {@link #RECORD_READERS} - a {@code Function<Class<?>, ObjectReader>}.
+ * <p>
+ * As the constructor of {@link LazyRecord} isn't accessible, records are created by the
+ * {@link RecordFactory} installed by {@link LazyRecord} on its initialization.
+ */
+public class LazyRecordDeserializer extends JsonDeserializer<LazyRecord<?>> implements ContextualDeserializer {
+
+    public static final String RECORD_READERS = "billomat4j.recordReaders";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String ID = "id";
+
+    private static volatile RecordFactory recordFactory;
+
+    static {
+        initialize(LazyRecord.class);
+    }
+
+    private final JavaType recordType;
+
+    public LazyRecordDeserializer() {
+        this(null);
+    }
+
+    private LazyRecordDeserializer(final JavaType recordType) {
+        this.recordType = recordType;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(final DeserializationContext ctxt, final BeanProperty property) {
+        return new LazyRecordDeserializer(ctxt.getContextualType().containedTypeOrUnknown(0));
+    }
+
+    @Override
+    public LazyRecord<?> deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartObjectToken()) {
+            return (LazyRecord<?>) ctxt.handleUnexpectedToken(LazyRecord.class, p);
+        }
+
+        Integer id = null;
+        final ByteArrayBuilder buffer = new ByteArrayBuilder();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+            generator.writeStartObject();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = p.getCurrentName();
+                generator.writeFieldName(name);
+                final JsonToken value = p.nextToken();
+                if (ID.equals(name) && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                    id = p.getValueAsInt();
+                }
+                generator.copyCurrentStructure(p);
+            }
+            generator.writeEndObject();
+        }
+
+        return recordFactory.create(id, buffer.toByteArray(), recordReader(ctxt));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjectReader recordReader(final DeserializationContext ctxt) throws IOException {
+        final Function<Class<?>, ObjectReader> recordReaders =
+            (Function<Class<?>, ObjectReader>) ctxt.findInjectableValue(RECORD_READERS, null, null);
+        return recordReaders.apply(recordType.getRawClass());
+    }
+
+    /**
+     * Installs the factory creating the records. Called once by {@link LazyRecord}.
+     *
+     * @param factory the factory creating the records
+     * @throws IllegalStateException if a factory is already installed
+     */
+    public static void installRecordFactory(final RecordFactory factory) {
+        Validate.validState(recordFactory == null, "Record factory is already installed");
+        recordFactory = Validate.notNull(factory, "factory must not be null");
+    }
+
+    private static void initialize(final Class<?> type) {
+        try {
+            Class.forName(type.getName(), true, type.getClassLoader());
+        } catch (final ClassNotFoundException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Creates a {@link LazyRecord}.
+     */
+    @FunctionalInterface
+    public interface RecordFactory {
+
+        /**
+         * @param id     the id of the record, may be {@code null}
+         * @param json   the JSON of the record (without root name)
+         * @param reader the reader binding the JSON to the record
+         * @return the record
+         */
+        LazyRecord<?> create(Integer id, byte[] json, ObjectReader reader);
+
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.json;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A bounded pool of canonical instances of immutable values. Once the pool is full, values not
+ * already pooled are returned as they are.
+ *
+ * @param <T> the type of the values
+ */
+public class ValuePool<T> {
+
+    private final ConcurrentMap<T, T> values = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    /**
+     * @param maxEntries the maximum number of pooled values
+     */
+    public ValuePool(final int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param value the value to canonicalize, may be {@code null}
+     * @return the pooled instance equal to the given value or the value itself
+     */
+    public T canonicalize(final T value) {
+        if (value == null) {
+            return null;
+        }
+
+        final T pooled = values.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+
+        // the size check is racy - the pool may exceed its limit by the number of concurrent callers
+        if (values.size() >= maxEntries) {
+            return value;
+        }
+
+        final T existing = values.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.metrics;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * {@link RequestListener} aggregating the metrics per resource in memory.
+ * <pre>
+ * InMemoryMetrics metrics = new InMemoryMetrics();
+ * billomatConfiguration.setRequestListener(metrics);
+ * // ... run the batch
+ * LOG.info("Request metrics:\n{}", metrics);
+ * </pre>
+ */
+public class InMemoryMetrics implements RequestListener {
+
+    private final ConcurrentMap<String, ResourceMetrics> resources = new ConcurrentHashMap<>();
+
+    @Override
+    public void requestCompleted(final RequestMetrics metrics) {
+        resource(metrics.getResource()).record(metrics);
+    }
+
+    @Override
+    public void responseDecoded(final String resource, final int bytes, final Duration duration) {
+        resource(resource).recordDecode(duration);
+    }
+
+    @Override
+    public void pageFetched(final String resource, final int page, final int records) {
+        resource(resource).recordPage(records);
+    }
+
+    private ResourceMetrics resource(final String resource) {
+        return resources.computeIfAbsent(resource, ResourceMetrics::new);
+    }
+
+    /**
+     * @return the metrics by resource name - ordered by total request time, the most expensive
+     * resource first
+     */
+    public Map<String, ResourceMetrics> getResources() {
+        return resources.values().stream()
+            .sorted(Comparator.comparing((ResourceMetrics m) -> m.getTotalTime().getTotal()).reversed())
+            .collect(Collectors.toMap(ResourceMetrics::getResource, m -> m, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * Discards all metrics collected so far.
+     */
+    public void reset() {
+        resources.clear();
+    }
+
+    @Override
+    public String toString() {
+        return getResources().values().stream()
+            .map(ResourceMetrics::toString)
+            .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Thread-safe histogram of durations with logarithmic buckets. Percentiles are approximated with a
+ * relative error of at most 12.5 %.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double MAX_PERCENTILE = 100;
+    private static final double MEDIAN = 50;
+    private static final double P99 = 99;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param duration the duration to record - negative durations are recorded as zero
+     */
+    public void record(final Duration duration) {
+        record(duration.toNanos());
+    }
+
+    void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * @return the number of recorded durations
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the sum of all recorded durations
+     */
+    public Duration getTotal() {
+        return Duration.ofNanos(sum.sum());
+    }
+
+    /**
+     * @return the mean of all recorded durations or {@link Duration#ZERO} if nothing was recorded
+     */
+    public Duration getMean() {
+        final long n = count.sum();
+        return n == 0 ? Duration.ZERO : Duration.ofNanos(sum.sum() / n);
+    }
+
+    /**
+     * @return the maximum of all recorded durations
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(max.get());
+    }
+
+    /**
+     * @param percentile the percentile to calculate (e.g. {@code 99} or {@code 99.9})
+     * @return the approximated percentile or {@link Duration#ZERO} if nothing was recorded
+     * @throws IllegalArgumentException if percentile is not within 0 and 100
+     */
+    public Duration getPercentile(final double percentile) {
+        Validate.inclusiveBetween(0, MAX_PERCENTILE, percentile, "percentile must be within 0 and 100");
+
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += buckets.get(i);
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / MAX_PERCENTILE * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS && total > 0; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.min(upperBound(i), max.get()));
+            }
+        }
+
+        return Duration.ZERO;
+    }
+
+    private static int bucketIndex(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        final int msb = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (msb - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getCount() + ", mean=" + getMean().toMillis() + " ms, p50="
+            + getPercentile(MEDIAN).toMillis() + " ms, p99=" + getPercentile(P99).toMillis() + " ms, max="
+            + getMax().toMillis() + " ms";
+    }
+
+}
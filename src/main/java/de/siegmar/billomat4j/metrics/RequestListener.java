@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.metrics;
+
+import java.time.Duration;
+
+/**
+ * Receives metrics about the requests sent to the Billomat API. Register a listener with
+ * {@link de.siegmar.billomat4j.service.BillomatConfiguration#setRequestListener(RequestListener)}.
+ * <p>
+ * Listeners are called from the threads executing the requests - implementations have to be
+ * thread-safe and should return quickly.
+ *
+ * @see InMemoryMetrics
+ */
+public interface RequestListener {
+
+    /**
+     * Called after a request has been completed - including failed requests.
+     * Responses served from the client side cache are not reported.
+     *
+     * @param metrics the metrics of the request
+     */
+    void requestCompleted(RequestMetrics metrics);
+
+    /**
+     * Called after a buffered response has been deserialized. Responses deserialized while being
+     * received are not reported - their deserialization time is part of the receive time.
+     *
+     * @param resource the requested resource (e.g. {@code invoices})
+     * @param bytes    the size of the deserialized response in bytes
+     * @param duration the time spent deserializing the response
+     */
+    default void responseDecoded(final String resource, final int bytes, final Duration duration) {
+    }
+
+    /**
+     * Called after a page of a paged list has been fetched and deserialized.
+     *
+     * @param resource the requested resource (e.g. {@code invoices})
+     * @param page     the page number (1-based)
+     * @param records  the number of records on the page
+     */
+    default void pageFetched(final String resource, final int page, final int records) {
+    }
+
+}
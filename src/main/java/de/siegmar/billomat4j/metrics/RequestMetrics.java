@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.metrics;
+
+import java.time.Duration;
+
+/**
+ * The metrics of a single request, including all of its retries.
+ * <p>
+ * The time to resolve the host name, to establish the connection and to send the request is not
+ * exposed separately by the HTTP client - it is contained in {@link #getSendTime()}, which lasts
+ * until the response headers have been received.
+ */
+public final class RequestMetrics {
+
+    private final String resource;
+    private final String httpMethod;
+    private final int statusCode;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final int retries;
+    private final Duration waitTime;
+    private final Duration sendTime;
+    private final Duration receiveTime;
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    public RequestMetrics(final String resource, final String httpMethod, final int statusCode,
+                          final long requestBytes, final long responseBytes, final int retries,
+                          final Duration waitTime, final Duration sendTime, final Duration receiveTime) {
+        this.resource = resource;
+        this.httpMethod = httpMethod;
+        this.statusCode = statusCode;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.retries = retries;
+        this.waitTime = waitTime;
+        this.sendTime = sendTime;
+        this.receiveTime = receiveTime;
+    }
+
+    /**
+     * @return the requested resource (e.g. {@code invoices})
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * @return the HTTP method (e.g. {@code GET})
+     */
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    /**
+     * @return the HTTP status code of the final response or {@code 0} if no response was received
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return the size of the request body in bytes
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * @return the size of the final response body in bytes
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * @return the number of retries (e.g. because of throttling)
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * @return the time spent waiting for the client side rate limit and retry delays
+     */
+    public Duration getWaitTime() {
+        return waitTime;
+    }
+
+    /**
+     * @return the time from sending the request until the response headers were received (summed
+     * up for all attempts)
+     */
+    public Duration getSendTime() {
+        return sendTime;
+    }
+
+    /**
+     * @return the time spent receiving the response body - including the deserialization if the
+     * response is deserialized while being received
+     */
+    public Duration getReceiveTime() {
+        return receiveTime;
+    }
+
+    /**
+     * @return the total time of the request - sum of wait, send and receive time
+     */
+    public Duration getTotalTime() {
+        return waitTime.plus(sendTime).plus(receiveTime);
+    }
+
+    @Override
+    public String toString() {
+        return httpMethod + " " + resource + " -> " + statusCode + " (" + getTotalTime().toMillis() + " ms, "
+            + responseBytes + " bytes, " + retries + " retries)";
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated metrics of all requests to one resource.
+ */
+public final class ResourceMetrics {
+
+    private final String resource;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder pages = new LongAdder();
+    private final LongAdder records = new LongAdder();
+    private final ConcurrentMap<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+    private final LatencyHistogram totalTime = new LatencyHistogram();
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LatencyHistogram sendTime = new LatencyHistogram();
+    private final LatencyHistogram receiveTime = new LatencyHistogram();
+    private final LatencyHistogram decodeTime = new LatencyHistogram();
+
+    ResourceMetrics(final String resource) {
+        this.resource = resource;
+    }
+
+    void record(final RequestMetrics metrics) {
+        requests.increment();
+        retries.add(metrics.getRetries());
+        requestBytes.add(metrics.getRequestBytes());
+        responseBytes.add(metrics.getResponseBytes());
+        statusCodes.computeIfAbsent(metrics.getStatusCode(), k -> new LongAdder()).increment();
+        totalTime.record(metrics.getTotalTime());
+        waitTime.record(metrics.getWaitTime());
+        sendTime.record(metrics.getSendTime());
+        receiveTime.record(metrics.getReceiveTime());
+    }
+
+    void recordDecode(final Duration duration) {
+        decodeTime.record(duration);
+    }
+
+    void recordPage(final int pageRecords) {
+        pages.increment();
+        records.add(pageRecords);
+    }
+
+    /**
+     * @return the resource name (e.g. {@code invoices})
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * @return the number of fetched pages of paged lists
+     */
+    public long getPageCount() {
+        return pages.sum();
+    }
+
+    /**
+     * @return the number of records on fetched pages of paged lists
+     */
+    public long getRecordCount() {
+        return records.sum();
+    }
+
+    /**
+     * @return the number of responses by HTTP status code - {@code 0} counts requests without response
+     */
+    public Map<Integer, Long> getStatusCodes() {
+        final Map<Integer, Long> counts = new TreeMap<>();
+        statusCodes.forEach((code, adder) -> counts.put(code, adder.sum()));
+        return counts;
+    }
+
+    /**
+     * @return the total time of the requests (wait, send and receive time)
+     */
+    public LatencyHistogram getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * @return the time spent waiting for the client side rate limit and retry delays
+     */
+    public LatencyHistogram getWaitTime() {
+        return waitTime;
+    }
+
+    /**
+     * @return the time from sending the requests until the response headers were received
+     */
+    public LatencyHistogram getSendTime() {
+        return sendTime;
+    }
+
+    /**
+     * @return the time spent receiving the response bodies
+     */
+    public LatencyHistogram getReceiveTime() {
+        return receiveTime;
+    }
+
+    /**
+     * @return the time spent deserializing the responses
+     */
+    public LatencyHistogram getDecodeTime() {
+        return decodeTime;
+    }
+
+    @Override
+    public String toString() {
+        return resource + ": " + getRequestCount() + " requests (" + getRetryCount() + " retries, "
+            + getPageCount() + " pages), status codes " + getStatusCodes() + ", "
+            + getResponseBytes() + " bytes received, total time " + totalTime.getTotal().toMillis()
+            + " ms [" + totalTime + "], decode time " + decodeTime.getTotal().toMillis() + " ms";
+    }
+
+}
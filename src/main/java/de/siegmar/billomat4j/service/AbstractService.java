@@ -19,18 +19,33 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import de.siegmar.billomat4j.Pager;
@@ -46,24 +61,122 @@ import de.siegmar.billomat4j.domain.WrappedRecord;
 // CSOFF: ClassFanOutComplexity
 abstract class AbstractService {
 
+    protected final BillomatConfiguration billomatConfiguration;
     protected final RequestHelper requestHelper;
-    protected final ObjectReader objectReader;
-    protected final ObjectWriter objectWriter;
+    protected final CodecRegistry codecs;
 
     protected AbstractService(final BillomatConfiguration billomatConfiguration) {
         billomatConfiguration.init();
 
+        this.billomatConfiguration = billomatConfiguration;
         this.requestHelper = billomatConfiguration.getRequestHelper();
-        this.objectReader = billomatConfiguration.getObjectReader();
-        this.objectWriter = billomatConfiguration.getObjectWriter();
+        this.codecs = billomatConfiguration.getCodecs();
     }
 
     protected <T extends Pageable<E>, E> List<E> getAllPagesFromResource(final String resource,
                                                                          final Class<T> wrapperClass,
                                                                          final Filter filter) {
 
-        final Pager<T, E> pager = new Pager<>(wrapperClass, requestHelper, objectReader);
-        return pager.getAll(resource, filter);
+        return newPager(wrapperClass).getAll(resource, filter);
+    }
+
+    protected <T extends Pageable<E>, E> CompletableFuture<List<E>> getAllPagesFromResourceAsync(
+        final String resource, final Class<T> wrapperClass, final Filter filter) {
+
+        return newPager(wrapperClass).getAllAsync(resource, filter);
+    }
+
+    protected <T extends Pageable<E>, E> Stream<E> streamAllPagesFromResource(final String resource,
+                                                                              final Class<T> wrapperClass,
+                                                                              final Filter filter) {
+
+        return newPager(wrapperClass).stream(resource, filter);
+    }
+
+    protected <T extends Pageable<E>, E> int countFromResource(final String resource, final Class<T> wrapperClass,
+                                                               final Filter filter) {
+
+        return new Pager<>(wrapperClass, requestHelper, codecs.readerFor(wrapperClass)).count(resource, filter);
+    }
+
+    /**
+     * Counts the records of all filters by concurrent requests - limited by
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}.
+     *
+     * @param resource     the resource to count
+     * @param wrapperClass the record wrapper class of the resource
+     * @param filters      the filters to count the records of - elements may be {@code null} to count
+     *                     all records
+     * @param <T>          the type of the record wrapper
+     * @param <E>          the type of the records
+     * @return the number of records per filter - in the same order as the filters
+     * @throws BulkServiceException if one or more counts failed
+     */
+    protected <T extends Pageable<E>, E> List<Integer> countFromResource(final String resource,
+                                                                         final Class<T> wrapperClass,
+                                                                         final List<? extends Filter> filters) {
+
+        final Pager<T, E> pager = new Pager<>(wrapperClass, requestHelper, codecs.readerFor(wrapperClass));
+        final List<CompletableFuture<Integer>> futures = BulkExecutor.submit(filters,
+            billomatConfiguration.getBulkConcurrency(), filter -> pager.countAsync(resource, filter));
+
+        final List<Integer> counts = new ArrayList<>(futures.size());
+        final Map<Object, Throwable> failures = new LinkedHashMap<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                counts.add(futures.get(i).join());
+            } catch (final CompletionException e) {
+                failures.put(filters.get(i), e.getCause());
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new BulkServiceException(failures.size() + " of " + filters.size()
+                + " counts failed", failures);
+        }
+
+        return counts;
+    }
+
+    protected <T extends Pageable<E>, E> PagedScan<E> scanPagesFromResource(final String resource,
+                                                                            final Class<T> wrapperClass,
+                                                                            final Filter filter) {
+
+        final Pager<T, E> pager = newPager(wrapperClass);
+        return new PagedScan<>(pager,
+            new ScanCursor(resource, pager.buildParams(filter), pager.getPageSize(), 0, false));
+    }
+
+    protected <T extends Pageable<E>, E> PagedScan<E> resumePagedScan(final String resource,
+                                                                      final Class<T> wrapperClass,
+                                                                      final ScanCursor cursor) {
+
+        Validate.notNull(cursor);
+        Validate.isTrue(resource.equals(cursor.getResource()),
+            "Cursor of resource %s can't be used to scan %s", cursor.getResource(), resource);
+        return new PagedScan<>(newPager(wrapperClass), cursor);
+    }
+
+    protected <T extends Pageable<E>, E extends Identifiable> List<E> getShardedFromResource(
+        final String resource, final Class<T> wrapperClass, final Filter filter, final LocalDate from,
+        final LocalDate to) {
+
+        Validate.notNull(from);
+        Validate.notNull(to);
+        Validate.isTrue(!to.isBefore(from), "to must not be before from");
+
+        final Pager<T, E> pager = newPager(wrapperClass);
+        return new ShardedScan<>(pager, resource, pager.buildParams(filter),
+            billomatConfiguration.getShardMaxRecords(), billomatConfiguration.getShardConcurrency(),
+            billomatConfiguration.getExecutor()).scan(from, to);
+    }
+
+    private <T extends Pageable<E>, E> Pager<T, E> newPager(final Class<T> wrapperClass) {
+        final Pager<T, E> pager = new Pager<>(wrapperClass, requestHelper, codecs.readerFor(wrapperClass));
+        pager.setFetchConcurrency(billomatConfiguration.getPageFetchConcurrency());
+        pager.setExecutor(billomatConfiguration.getExecutor());
+        pager.setPageRetries(billomatConfiguration.getPageRetries(), billomatConfiguration.getRetryBaseDelay());
+        return pager;
     }
 
     protected <T extends WrappedRecord<E>, E> List<E> getAllFromResource(
@@ -76,8 +189,8 @@ abstract class AbstractService {
         }
 
         try {
-            final byte[] data = requestHelper.get(resource, null, null, params);
-            final WrappedRecord<E> wrapper = objectReader.forType(wrapperClass).readValue(data);
+            final WrappedRecord<E> wrapper =
+                requestHelper.get(resource, null, null, params, codecs.readerFor(wrapperClass));
             return wrapper.getEntries();
         } catch (final IOException e) {
             throw new ServiceException(e);
@@ -90,11 +203,64 @@ abstract class AbstractService {
 
     protected <T> Optional<T> getById(final String resource, final Class<T> wrapperClass, final Object id) {
         try {
-            final byte[] data = requestHelper.get(resource, id.toString(), null, null);
-            if (data == null) {
-                return Optional.empty();
+            return Optional.ofNullable(
+                requestHelper.get(resource, id.toString(), null, null, codecs.readerFor(wrapperClass)));
+        } catch (final IOException e) {
+            throw new ServiceException(e);
+        }
+    }
+
+    protected <T> CompletableFuture<Optional<T>> getByIdAsync(final String resource, final Class<T> wrapperClass,
+                                                              final Object id) {
+
+        return requestHelper.getAsync(resource, id.toString(), null, null)
+            .thenApply(data -> readOptional(resource, data, wrapperClass));
+    }
+
+    /**
+     * Gets all records by concurrent requests - limited by
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}.
+     *
+     * @param resource     the resource to get the records from
+     * @param wrapperClass the record class
+     * @param ids          the ids of the records to get - duplicates are requested once
+     * @param <T>          the type of the records
+     * @return the found records and the ids of records that don't exist
+     * @throws BulkServiceException if one or more lookups failed
+     */
+    protected <T> BulkLookupResult<T> getByIds(final String resource, final Class<T> wrapperClass,
+                                               final Collection<Integer> ids) {
+
+        final List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(Validate.noNullElements(ids)));
+        final List<CompletableFuture<Optional<T>>> futures = BulkExecutor.submit(distinctIds,
+            billomatConfiguration.getBulkConcurrency(), id -> getByIdAsync(resource, wrapperClass, id));
+
+        final Map<Integer, T> found = new LinkedHashMap<>();
+        final Set<Integer> missing = new LinkedHashSet<>();
+        final Map<Object, Throwable> failures = new LinkedHashMap<>();
+        for (int i = 0; i < futures.size(); i++) {
+            final Integer id = distinctIds.get(i);
+            try {
+                futures.get(i).join().ifPresentOrElse(record -> found.put(id, record), () -> missing.add(id));
+            } catch (final CompletionException e) {
+                failures.put(id, e.getCause());
             }
-            return Optional.of(objectReader.forType(wrapperClass).readValue(data));
+        }
+
+        if (!failures.isEmpty()) {
+            throw new BulkServiceException(failures.size() + " of " + distinctIds.size()
+                + " lookups failed", failures);
+        }
+
+        return new BulkLookupResult<>(found, missing);
+    }
+
+    private <T> Optional<T> readOptional(final String resource, final byte[] data, final Class<T> clazz) {
+        if (data == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(requestHelper.decode(resource, codecs.readerFor(clazz), data));
         } catch (final IOException e) {
             throw new ServiceException(e);
         }
@@ -102,19 +268,64 @@ abstract class AbstractService {
 
     protected void create(final String resource, final Object object) {
         try {
-            final byte[] requestData = objectWriter.writeValueAsBytes(object);
+            final byte[] requestData = codecs.write(object);
             final byte[] responseData = requestHelper.post(resource, null, requestData);
-            objectReader.withValueToUpdate(object).readValue(responseData);
+            requestHelper.decode(resource, codecs.updaterFor(object), responseData);
         } catch (final IOException e) {
             throw new ServiceException(e);
         }
     }
 
+    /**
+     * Creates all objects by concurrent requests - limited by
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}.
+     *
+     * @param resource the resource to create the objects in
+     * @param objects  the objects to create - updated with the server response on success
+     * @throws BulkServiceException if one or more objects could not be created
+     */
+    protected void createAll(final String resource, final List<?> objects) {
+        final List<CompletableFuture<Void>> futures = BulkExecutor.submit(objects,
+            billomatConfiguration.getBulkConcurrency(), object -> createAsync(resource, object));
+
+        final Map<Object, Throwable> failures = new LinkedHashMap<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).join();
+            } catch (final CompletionException e) {
+                failures.put(objects.get(i), e.getCause());
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new BulkServiceException(failures.size() + " of " + objects.size()
+                + " objects could not be created", failures);
+        }
+    }
+
+    private CompletableFuture<Void> createAsync(final String resource, final Object object) {
+        final byte[] requestData;
+        try {
+            requestData = codecs.write(object);
+        } catch (final JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new ServiceException(e));
+        }
+
+        return requestHelper.postAsync(resource, null, requestData)
+            .thenAccept(responseData -> {
+                try {
+                    requestHelper.decode(resource, codecs.updaterFor(object), responseData);
+                } catch (final IOException e) {
+                    throw new ServiceException(e);
+                }
+            });
+    }
+
     protected void update(final String resource, final Identifiable object) {
         try {
-            final byte[] requestData = objectWriter.writeValueAsBytes(object);
+            final byte[] requestData = codecs.write(object);
             final byte[] responseData = requestHelper.put(resource, null, object.getId().toString(), requestData);
-            objectReader.withValueToUpdate(object).readValue(responseData);
+            requestHelper.decode(resource, codecs.updaterFor(object), responseData);
         } catch (final IOException e) {
             throw new ServiceException(e);
         }
@@ -142,7 +353,7 @@ abstract class AbstractService {
         Validate.notEmpty(email.getRecipients().getToRecipients());
 
         try {
-            final byte[] data = objectWriter.writeValueAsBytes(email);
+            final byte[] data = codecs.write(email);
             requestHelper.post(resource, Integer.toString(id), "email", data);
         } catch (final IOException e) {
             throw new ServiceException(e);
@@ -153,7 +364,7 @@ abstract class AbstractService {
         final DocumentComplete confirmationComplete = new DocumentComplete();
         confirmationComplete.setTemplateId(templateId);
         try {
-            final byte[] data = objectWriter.writeValueAsBytes(confirmationComplete);
+            final byte[] data = codecs.write(confirmationComplete);
             requestHelper.put(resource, "complete", Integer.toString(id), data);
         } catch (final IOException e) {
             throw new ServiceException(e);
@@ -165,24 +376,109 @@ abstract class AbstractService {
         final Map<String, String> filter) {
 
         try {
-            final byte[] data = requestHelper.get(resource, Integer.toString(id), "pdf", filter);
-            if (data == null) {
-                return Optional.empty();
+            return Optional.ofNullable(
+                requestHelper.get(resource, Integer.toString(id), "pdf", filter, codecs.readerFor(clazz)));
+        } catch (final IOException e) {
+            throw new ServiceException(e);
+        }
+    }
+
+    /**
+     * Streams the PDF document directly from the HTTP response to the given output stream. Neither
+     * the response nor the decoded document is buffered in memory.
+     *
+     * @param resource the document resource
+     * @param id       the id of the document
+     * @param filter   additional request parameters, may be {@code null}
+     * @param out      the stream to write the decoded PDF to - not closed by this method
+     * @return {@code true} if the PDF was written, {@code false} if the document was not found
+     */
+    protected boolean downloadPdf(final String resource, final int id, final Map<String, String> filter,
+                                  final OutputStream out) {
+
+        try (InputStream in = requestHelper.getStream(resource, Integer.toString(id), "pdf", filter)) {
+            if (in == null) {
+                return false;
             }
-            return Optional.of(objectReader.forType(clazz).readValue(data));
+
+            boolean found = false;
+            try (JsonParser parser = codecs.getObjectReader().createParser(in)) {
+                while (!found && parser.nextToken() != null) {
+                    if (parser.currentToken() == JsonToken.FIELD_NAME && "base64file".equals(parser.getCurrentName())) {
+                        parser.nextToken();
+                        parser.readBinaryValue(out);
+                        found = true;
+                    }
+                }
+            }
+
+            // consume the remaining properties - an entirely consumed response allows reusing the connection
+            in.transferTo(OutputStream.nullOutputStream());
+
+            if (found) {
+                return true;
+            }
+        } catch (final IOException e) {
+            throw new ServiceException(e);
+        }
+
+        throw new ServiceException("Response of resource " + resource + " contains no PDF document");
+    }
+
+    /**
+     * Streams the PDF document directly from the HTTP response to the given file. The file is
+     * written to a temporary file first, so an existing target file is only replaced if the
+     * document was downloaded completely.
+     *
+     * @param resource the document resource
+     * @param id       the id of the document
+     * @param filter   additional request parameters, may be {@code null}
+     * @param target   the file to write the decoded PDF to
+     * @return {@code true} if the PDF was written, {@code false} if the document was not found
+     */
+    protected boolean downloadPdf(final String resource, final int id, final Map<String, String> filter,
+                                  final Path target) {
+
+        final Path tmpFile = createTempFile(target);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmpFile))) {
+                if (!downloadPdf(resource, id, filter, out)) {
+                    return false;
+                }
+            }
+            Files.move(tmpFile, target, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (final IOException e) {
+            throw new ServiceException(e);
+        } finally {
+            deleteIfExists(tmpFile);
+        }
+    }
+
+    private static Path createTempFile(final Path target) {
+        try {
+            final Path dir = target.toAbsolutePath().getParent();
+            return Files.createTempFile(dir, "." + target.getFileName(), ".tmp");
+        } catch (final IOException e) {
+            throw new ServiceException(e);
+        }
+    }
+
+    private static void deleteIfExists(final Path file) {
+        try {
+            Files.deleteIfExists(file);
         } catch (final IOException e) {
             throw new ServiceException(e);
         }
     }
 
     protected void uploadSignedPdf(final String resource, final int id, final byte[] pdf) {
-        final ObjectMapper om = new ObjectMapper();
-        final ObjectNode rootNode = om.createObjectNode();
+        final ObjectNode rootNode = codecs.createObjectNode();
         final ObjectNode signature = rootNode.putObject("signature");
         signature.put("base64file", pdf);
 
         try {
-            final byte[] data = om.writeValueAsBytes(rootNode);
+            final byte[] data = codecs.writeTree(rootNode);
 
             requestHelper.put(resource, "upload-signature", Integer.toString(id), data);
         } catch (final IOException e) {
@@ -191,13 +487,12 @@ abstract class AbstractService {
     }
 
     protected Optional<String> getCustomField(final String resource, final int id) {
-        final ObjectMapper mapper = new ObjectMapper();
         try {
             final byte[] data = requestHelper.get(resource, Integer.toString(id), "customfield", null);
             if (data == null) {
                 return Optional.empty();
             }
-            final JsonNode jsonNode = mapper.readValue(data, JsonNode.class);
+            final JsonNode jsonNode = codecs.readTree(data);
             return Optional.of(jsonNode.findValue("customfield").asText());
         } catch (final IOException e) {
             throw new ServiceException(e);
@@ -205,13 +500,12 @@ abstract class AbstractService {
     }
 
     protected void updateCustomField(final String resource, final int id, final String rootName, final String value) {
-        final ObjectMapper om = new ObjectMapper();
-        final ObjectNode rootNode = om.createObjectNode();
+        final ObjectNode rootNode = codecs.createObjectNode();
         final ObjectNode firstNode = rootNode.putObject(rootName);
         firstNode.put("customfield", value);
 
         try {
-            final byte[] data = om.writeValueAsBytes(rootNode);
+            final byte[] data = codecs.writeTree(rootNode);
 
             requestHelper.put(resource, "customfield", Integer.toString(id), data);
         } catch (final IOException e) {
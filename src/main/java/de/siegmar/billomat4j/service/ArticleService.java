@@ -19,8 +19,11 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 
@@ -68,6 +71,77 @@ public class ArticleService extends AbstractService
         return getAllPagesFromResource(RESOURCE, Articles.class, articleFilter);
     }
 
+    /**
+     * Counts articles without fetching them - a single request is sent regardless of the number
+     * of articles found.
+     *
+     * @param articleFilter article filter, may be {@code null} to count all articles
+     * @return the number of articles found by filter criteria
+     * @throws ServiceException if an error occurred while accessing the web service
+     */
+    public int countArticles(final ArticleFilter articleFilter) {
+        return countFromResource(RESOURCE, Articles.class, articleFilter);
+    }
+
+    /**
+     * Counts articles for multiple filters by concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param articleFilters article filters, elements may be {@code null} to count all articles
+     * @return the number of articles per filter - in the same order as the filters
+     * @throws BulkServiceException if one or more counts failed
+     * @see #countArticles(ArticleFilter)
+     */
+    public List<Integer> countArticlesByFilters(final List<ArticleFilter> articleFilters) {
+        return countFromResource(RESOURCE, Articles.class, Validate.notNull(articleFilters));
+    }
+
+    /**
+     * Streams articles page by page - only a single page of articles is held in memory at any time.
+     *
+     * @param articleFilter article filter, may be {@code null} to find unfiltered
+     * @return a lazily populated stream of articles found by filter criteria - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see #findArticles(ArticleFilter)
+     */
+    public Stream<Article> streamArticles(final ArticleFilter articleFilter) {
+        return streamAllPagesFromResource(RESOURCE, Articles.class, articleFilter);
+    }
+
+    /**
+     * Scans articles page by page - pages are retried individually and the scan can be continued
+     * later from its cursor.
+     *
+     * @param articleFilter article filter, may be {@code null} to find unfiltered
+     * @return a scan of articles found by filter criteria - never {@code null}
+     * @see #resumeArticleScan(ScanCursor)
+     */
+    public PagedScan<Article> scanArticles(final ArticleFilter articleFilter) {
+        return scanPagesFromResource(RESOURCE, Articles.class, articleFilter);
+    }
+
+    /**
+     * Continues a scan started by {@link #scanArticles(ArticleFilter)}.
+     *
+     * @param cursor the cursor of the scan to continue
+     * @return a scan continuing after the last completed page of the cursor - never {@code null}
+     * @throws IllegalArgumentException if the cursor doesn't belong to a scan of articles
+     */
+    public PagedScan<Article> resumeArticleScan(final ScanCursor cursor) {
+        return resumePagedScan(RESOURCE, Articles.class, cursor);
+    }
+
+    /**
+     * Asynchronous variant of {@link #findArticles(ArticleFilter)}.
+     *
+     * @param articleFilter article filter, may be {@code null} to find unfiltered
+     * @return the future list of articles found by filter criteria - completes exceptionally with a
+     * {@link ServiceException} if an error occurred while accessing the web service
+     */
+    public CompletableFuture<List<Article>> findArticlesAsync(final ArticleFilter articleFilter) {
+        return getAllPagesFromResourceAsync(RESOURCE, Articles.class, articleFilter);
+    }
+
     /**
      * Gets an article by its id.
      *
@@ -79,6 +153,32 @@ public class ArticleService extends AbstractService
         return getById(RESOURCE, Article.class, articleId);
     }
 
+    /**
+     * Gets multiple articles by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param articleIds the articles' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found articles and the ids of articles that don't exist
+     * @throws NullPointerException     if articleIds is null
+     * @throws IllegalArgumentException if articleIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getArticleById(int)
+     */
+    public BulkLookupResult<Article> getArticlesByIds(final Collection<Integer> articleIds) {
+        return getByIds(RESOURCE, Article.class, articleIds);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getArticleById(int)}.
+     *
+     * @param articleId the article's id
+     * @return the future article - completes exceptionally with a {@link ServiceException} if an error
+     * occurred while accessing the web service
+     */
+    public CompletableFuture<Optional<Article>> getArticleByIdAsync(final int articleId) {
+        return getByIdAsync(RESOURCE, Article.class, articleId);
+    }
+
     /**
      * Gets an article by its article number.
      *
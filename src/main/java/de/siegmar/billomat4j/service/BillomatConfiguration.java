@@ -19,31 +19,35 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.lang3.Validate;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.Version;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import de.siegmar.billomat4j.RequestHelper;
-import de.siegmar.billomat4j.domain.types.PaymentType;
-import de.siegmar.billomat4j.json.CustomBooleanDeserializer;
-import de.siegmar.billomat4j.json.PaymentTypesDeserializer;
-import de.siegmar.billomat4j.json.PaymentTypesSerializer;
-import de.siegmar.billomat4j.json.Views;
+import de.siegmar.billomat4j.WorkerPool;
+import de.siegmar.billomat4j.metrics.RequestListener;
+import de.siegmar.billomat4j.transport.HttpTransport;
 
 @SuppressWarnings("checkstyle:classdataabstractioncoupling")
 public class BillomatConfiguration {
 
-    private static final String GROUP_ID = "de.siegmar";
-    private static final String ARTIFACT_ID = "billomat4j";
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final int DEFAULT_CACHE_MAX_ENTRIES = 1000;
+    private static final int DEFAULT_BULK_CONCURRENCY = 4;
+    private static final int DEFAULT_SHARD_MAX_RECORDS = 5000;
+    private static final int DEFAULT_SHARD_CONCURRENCY = 4;
 
     private String billomatId;
     private String apiKey;
@@ -51,9 +55,30 @@ public class BillomatConfiguration {
     private String appSecret;
     private boolean secure = true;
     private boolean ignoreUnknownProperties = true;
+    private int pageFetchConcurrency = 1;
+    private Executor executor = WorkerPool.shared();
+    private double maxRequestsPerSecond;
+    private int maxRetries;
+    private Duration retryBaseDelay = Duration.ofSeconds(1);
+    private HttpTransport httpTransport;
+    private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+    private final Map<CachedResource, Duration> cacheTtls = new EnumMap<>(CachedResource.class);
+    private int cacheMaxEntries = DEFAULT_CACHE_MAX_ENTRIES;
+    private int bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
+    private RequestListener requestListener;
+    private boolean compressResponses;
+    private int requestCompressionThreshold;
+    private long conditionalCacheMaxBytes;
+    private Path conditionalCacheDirectory;
+    private boolean coalesceRequests;
+    private int pageRetries;
+    private int shardMaxRecords = DEFAULT_SHARD_MAX_RECORDS;
+    private int shardConcurrency = DEFAULT_SHARD_CONCURRENCY;
+    private boolean generatedAccessors;
+    private int deduplicationMaxEntries;
     private RequestHelper requestHelper;
-    private ObjectReader objectReader;
-    private ObjectWriter objectWriter;
+    private CodecRegistry codecs;
 
     public String getBillomatId() {
         return billomatId;
@@ -113,16 +138,448 @@ public class BillomatConfiguration {
         this.ignoreUnknownProperties = ignoreUnknownProperties;
     }
 
+    public int getPageFetchConcurrency() {
+        return pageFetchConcurrency;
+    }
+
+    /**
+     * Defines how many pages of a paged result (e.g. {@link InvoiceService#findInvoices}) are fetched
+     * concurrently. The first page is always fetched alone in order to determine the total number of
+     * pages. The order of the returned records is not affected by this setting.
+     * Default is {@code 1} (sequential fetching).
+     *
+     * @param pageFetchConcurrency the maximum number of concurrent page requests, must be &gt;= 1
+     */
+    public void setPageFetchConcurrency(final int pageFetchConcurrency) {
+        Validate.isTrue(pageFetchConcurrency >= 1, "pageFetchConcurrency must be >= 1");
+        this.pageFetchConcurrency = pageFetchConcurrency;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Defines the executor running blocking work in the background - e.g. pages fetched concurrently
+     * (see {@link #setPageFetchConcurrency(int)}) and shards scanned concurrently
+     * (see {@link #setShardConcurrency(int)}). The concurrency limits are applied on top of the executor,
+     * so an unbounded executor is fine. The executor isn't shut down by this library.
+     * Default is a shared pool of daemon threads.
+     *
+     * @param executor the executor, must not be {@code null}
+     */
+    public void setExecutor(final Executor executor) {
+        Validate.notNull(executor, "executor must not be null");
+        this.executor = executor;
+    }
+
+    public double getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    /**
+     * Limits the rate of requests sent to the Billomat API (shared by all services using this
+     * configuration). Independently of this setting, requests are paused if the API reports that
+     * the request quota is used up ({@code X-Rate-Limit-Remaining} / {@code X-Rate-Limit-Reset}).
+     * Default is {@code 0} (no client side limit).
+     *
+     * @param maxRequestsPerSecond the maximum number of requests per second, {@code 0} for no limit
+     */
+    public void setMaxRequestsPerSecond(final double maxRequestsPerSecond) {
+        Validate.isTrue(maxRequestsPerSecond >= 0, "maxRequestsPerSecond must be >= 0");
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Defines how often a request is retried if the API responds with status code 429 (too many
+     * requests), 502 (bad gateway), 503 (service unavailable) or 504 (gateway timeout). Creating
+     * requests (POST) are only retried on 429 - on 502, 503 and 504 they might have been processed
+     * nevertheless (e.g. by a backend behind an overloaded proxy), so a retry could create duplicates.
+     * Default is {@code 0} (no retries).
+     *
+     * @param maxRetries the maximum number of retries, {@code 0} to disable retries
+     */
+    public void setMaxRetries(final int maxRetries) {
+        Validate.isTrue(maxRetries >= 0, "maxRetries must be >= 0");
+        this.maxRetries = maxRetries;
+    }
+
+    public Duration getRetryBaseDelay() {
+        return retryBaseDelay;
+    }
+
+    /**
+     * Defines the base delay of the exponential backoff between retries. The actual delay is
+     * randomized (jitter) and respects the {@code Retry-After} response header. Delays are capped at
+     * 60 seconds - a longer {@code Retry-After} is truncated. Default is 1 second.
+     *
+     * @param retryBaseDelay the base delay between retries, must not be {@code null}
+     */
+    public void setRetryBaseDelay(final Duration retryBaseDelay) {
+        this.retryBaseDelay = Objects.requireNonNull(retryBaseDelay, "retryBaseDelay must not be null");
+    }
+
+    public HttpTransport getHttpTransport() {
+        return httpTransport;
+    }
+
+    /**
+     * Defines the transport used to send HTTP requests. If not set, a
+     * {@link de.siegmar.billomat4j.transport.JdkHttpTransport} using the configured
+     * {@link #setConnectTimeout(Duration) connect timeout} is used.
+     *
+     * @param httpTransport the transport to use, {@code null} for the default transport
+     */
+    public void setHttpTransport(final HttpTransport httpTransport) {
+        this.httpTransport = httpTransport;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Defines the timeout for establishing connections. Only used by the default transport.
+     * Default is 10 seconds.
+     *
+     * @param connectTimeout the connect timeout, must not be {@code null}
+     */
+    public void setConnectTimeout(final Duration connectTimeout) {
+        this.connectTimeout = Objects.requireNonNull(connectTimeout, "connectTimeout must not be null");
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * Defines the timeout for receiving a response. Default is 60 seconds.
+     *
+     * @param requestTimeout the request timeout, must not be {@code null}
+     */
+    public void setRequestTimeout(final Duration requestTimeout) {
+        this.requestTimeout = Objects.requireNonNull(requestTimeout, "requestTimeout must not be null");
+    }
+
+    public Map<CachedResource, Duration> getCacheTtls() {
+        return Collections.unmodifiableMap(cacheTtls);
+    }
+
+    /**
+     * Enables client side caching of the given (rarely changing) resource. Cached responses are
+     * served until the time to live expires or the resource is modified via any service sharing
+     * this configuration. Caching is disabled for all resources by default.
+     *
+     * @param resource the resource to cache, must not be {@code null}
+     * @param ttl      the time to live of cached responses, {@code null} or zero to disable caching
+     */
+    public void setCacheTtl(final CachedResource resource, final Duration ttl) {
+        Objects.requireNonNull(resource, "resource must not be null");
+        if (ttl == null || ttl.isZero()) {
+            cacheTtls.remove(resource);
+        } else {
+            Validate.isTrue(!ttl.isNegative(), "ttl must not be negative");
+            cacheTtls.put(resource, ttl);
+        }
+    }
+
+    public int getCacheMaxEntries() {
+        return cacheMaxEntries;
+    }
+
+    /**
+     * Defines the maximum number of cached responses. If the limit is reached, the least recently
+     * used response is evicted. Default is {@code 1000}.
+     *
+     * @param cacheMaxEntries the maximum number of cached responses, must be &gt;= 1
+     */
+    public void setCacheMaxEntries(final int cacheMaxEntries) {
+        Validate.isTrue(cacheMaxEntries >= 1, "cacheMaxEntries must be >= 1");
+        this.cacheMaxEntries = cacheMaxEntries;
+    }
+
+    public int getBulkConcurrency() {
+        return bulkConcurrency;
+    }
+
+    /**
+     * Defines the maximum number of concurrent requests used by bulk operations
+     * (e.g. {@link GenericItemService#createItems(java.util.List)} or
+     * {@link InvoiceService#getInvoicesByIds(java.util.Collection)}). Default is {@code 4}.
+     *
+     * @param bulkConcurrency the maximum number of concurrent requests, must be &gt;= 1
+     */
+    public void setBulkConcurrency(final int bulkConcurrency) {
+        Validate.isTrue(bulkConcurrency >= 1, "bulkConcurrency must be >= 1");
+        this.bulkConcurrency = bulkConcurrency;
+    }
+
+    public RequestListener getRequestListener() {
+        return requestListener;
+    }
+
+    /**
+     * Defines a listener receiving metrics (timings, status codes, payload sizes, retries and pages)
+     * of all requests. Default is {@code null} (no metrics are collected).
+     *
+     * @param requestListener the listener or {@code null} to disable metrics
+     * @see de.siegmar.billomat4j.metrics.InMemoryMetrics
+     */
+    public void setRequestListener(final RequestListener requestListener) {
+        this.requestListener = requestListener;
+    }
+
+    public boolean isCompressResponses() {
+        return compressResponses;
+    }
+
+    /**
+     * Defines if compressed (gzip or deflate) responses are requested. Responses are decompressed
+     * while being read. Default is {@code false}.
+     *
+     * @param compressResponses {@code true} to request compressed responses
+     */
+    public void setCompressResponses(final boolean compressResponses) {
+        this.compressResponses = compressResponses;
+    }
+
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    /**
+     * Defines the minimum size of request bodies (e.g. of created or updated invoices) to be sent
+     * gzip compressed. Default is {@code 0} (request bodies are never compressed).
+     *
+     * @param requestCompressionThreshold the minimum size in bytes or {@code 0} to disable request
+     *                                    compression, must be &gt;= 0
+     */
+    public void setRequestCompressionThreshold(final int requestCompressionThreshold) {
+        Validate.isTrue(requestCompressionThreshold >= 0, "requestCompressionThreshold must be >= 0");
+        this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+
+    public long getConditionalCacheMaxBytes() {
+        return conditionalCacheMaxBytes;
+    }
+
+    /**
+     * Enables the conditional cache for single record requests (e.g. {@link ClientService#getClientById(int)}
+     * or {@link SettingsService#getSettings()}). Responses carrying an {@code ETag} or
+     * {@code Last-Modified} header are cached and revalidated with {@code If-None-Match} /
+     * {@code If-Modified-Since} on subsequent requests. If the server responds with
+     * {@code 304 Not Modified}, the cached response is used - cached responses are never used without
+     * revalidation. Default is {@code 0} (disabled).
+     *
+     * @param conditionalCacheMaxBytes the maximum size of all responses kept in memory or {@code 0} to
+     *                                 disable the conditional cache, must be &gt;= 0
+     */
+    public void setConditionalCacheMaxBytes(final long conditionalCacheMaxBytes) {
+        Validate.isTrue(conditionalCacheMaxBytes >= 0, "conditionalCacheMaxBytes must be >= 0");
+        this.conditionalCacheMaxBytes = conditionalCacheMaxBytes;
+    }
+
+    public Path getConditionalCacheDirectory() {
+        return conditionalCacheDirectory;
+    }
+
+    /**
+     * Defines a directory additionally storing the responses of the conditional cache (see
+     * {@link #setConditionalCacheMaxBytes(long)}) - they survive restarts of the application then.
+     * The size of the directory is not limited. Default is {@code null} (responses are kept in memory
+     * only).
+     *
+     * @param conditionalCacheDirectory an existing directory or {@code null}
+     * @throws IllegalArgumentException if the directory does not exist
+     */
+    public void setConditionalCacheDirectory(final Path conditionalCacheDirectory) {
+        Validate.isTrue(conditionalCacheDirectory == null || Files.isDirectory(conditionalCacheDirectory),
+            "conditionalCacheDirectory must be an existing directory");
+        this.conditionalCacheDirectory = conditionalCacheDirectory;
+    }
+
+    public boolean isCoalesceRequests() {
+        return coalesceRequests;
+    }
+
+    /**
+     * Defines if concurrent identical read requests (same method and URI) should be coalesced. If enabled,
+     * only the first request is sent to the server, all requests arriving while it's in flight share its
+     * response (each caller still gets its own deserialized objects). Responses of coalesced requests are
+     * buffered in memory before deserialization. Default is {@code false}.
+     *
+     * @param coalesceRequests {@code true} to coalesce concurrent identical read requests
+     */
+    public void setCoalesceRequests(final boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests;
+    }
+
+    public int getPageRetries() {
+        return pageRetries;
+    }
+
+    /**
+     * Defines how often a page of a paged list (e.g. {@link InvoiceService#findInvoices} or
+     * {@link InvoiceService#scanInvoices}) is fetched again if fetching it failed due to an
+     * I/O error or a server error. Responses that can't be read (malformed JSON) aren't retried.
+     * This is in addition to the retries of throttled and unavailable responses
+     * (see {@link #setMaxRetries(int)}) - a page may be requested up to
+     * {@code (pageRetries + 1) * (maxRetries + 1)} times. It uses the same
+     * {@link #setRetryBaseDelay(Duration) base delay}. Pages already fetched are kept.
+     * Default is {@code 0} (no retries).
+     *
+     * @param pageRetries the maximum number of retries per page, must be &gt;= 0
+     */
+    public void setPageRetries(final int pageRetries) {
+        Validate.isTrue(pageRetries >= 0, "pageRetries must be >= 0");
+        this.pageRetries = pageRetries;
+    }
+
+    public int getShardMaxRecords() {
+        return shardMaxRecords;
+    }
+
+    /**
+     * Defines the maximum number of records of a shard scanned by date sharded methods (e.g.
+     * {@link InvoiceService#findInvoicesSharded}). Larger shards are split in halves until they fit or
+     * cover a single day. Default is 5000.
+     *
+     * @param shardMaxRecords the maximum number of records of a shard, must be &gt;= 1
+     */
+    public void setShardMaxRecords(final int shardMaxRecords) {
+        Validate.isTrue(shardMaxRecords >= 1, "shardMaxRecords must be >= 1");
+        this.shardMaxRecords = shardMaxRecords;
+    }
+
+    public int getShardConcurrency() {
+        return shardConcurrency;
+    }
+
+    /**
+     * Defines the number of shards scanned concurrently by date sharded methods (e.g.
+     * {@link InvoiceService#findInvoicesSharded}). Default is 4.
+     *
+     * @param shardConcurrency the maximum number of concurrently scanned shards, must be &gt;= 1
+     */
+    public void setShardConcurrency(final int shardConcurrency) {
+        Validate.isTrue(shardConcurrency >= 1, "shardConcurrency must be >= 1");
+        this.shardConcurrency = shardConcurrency;
+    }
+
+    public boolean isGeneratedAccessors() {
+        return generatedAccessors;
+    }
+
+    /**
+     * Defines if the properties of domain objects should be accessed by generated code instead of
+     * reflection when reading and writing JSON (using the Jackson Blackbird module). This lowers the cost
+     * of every (de)serialization but adds a one-time cost per domain class. It has to be configured before
+     * the first service is created. Requires the optional dependency
+     * {@code com.fasterxml.jackson.module:jackson-module-blackbird}. Default is {@code false}.
+     *
+     * @param generatedAccessors {@code true} to use generated property accessors
+     * @throws IllegalStateException if enabled while the Jackson Blackbird module isn't available
+     */
+    public void setGeneratedAccessors(final boolean generatedAccessors) {
+        if (generatedAccessors) {
+            GeneratedAccessors.checkAvailable();
+        }
+        this.generatedAccessors = generatedAccessors;
+    }
+
+    public int getDeduplicationMaxEntries() {
+        return deduplicationMaxEntries;
+    }
+
+    /**
+     * Defines the maximum number of distinct strings and the maximum number of distinct decimals shared
+     * between deserialized objects. If enabled, equal values of properties with few distinct values -
+     * strings like status, currency codes, tax names or addresses and decimals like tax rates or quantities
+     * (see {@code DEFAULT_PROPERTIES} of the deduplicating deserializers) - are deduplicated to a single
+     * instance, reducing the memory footprint of large result sets. Values of other properties (e.g. titles
+     * or amounts) aren't pooled. Once the limit is reached, further distinct values aren't deduplicated.
+     * The pools are shared by all tenants of a {@link TenantRegistry}. It has to be configured before the
+     * first service is created. Default is 0 (disabled).
+     *
+     * @param deduplicationMaxEntries the maximum number of shared values per type, must be &gt;= 0
+     */
+    public void setDeduplicationMaxEntries(final int deduplicationMaxEntries) {
+        Validate.isTrue(deduplicationMaxEntries >= 0, "deduplicationMaxEntries must be >= 0");
+        this.deduplicationMaxEntries = deduplicationMaxEntries;
+    }
+
     RequestHelper getRequestHelper() {
         return requestHelper;
     }
 
+    CodecRegistry getCodecs() {
+        return codecs;
+    }
+
     ObjectReader getObjectReader() {
-        return objectReader;
+        return codecs.getObjectReader();
     }
 
     ObjectWriter getObjectWriter() {
-        return objectWriter;
+        return codecs.getObjectWriter();
+    }
+
+    /**
+     * Prepares this configuration for its first requests - meant for short-lived applications that
+     * would otherwise pay the initialization latency with their first requests. Resolves the JSON readers
+     * and writers of all lists and records (shared by all services using this configuration) and
+     * establishes the connection to the Billomat API by requesting the current user.
+     *
+     * @throws ServiceException if the connection couldn't be established
+     */
+    public void warmUp() {
+        init();
+        codecs.warmUp();
+        try {
+            requestHelper.get("users", "myself", null, null);
+        } catch (final IOException e) {
+            throw new ServiceException(e);
+        }
+    }
+
+    /**
+     * Creates a copy of all settings - except for credentials and the state created by {@link #init()}.
+     * The readers and writers are shared if they were already created (see {@link #initCodecs()}).
+     *
+     * @return the copy
+     */
+    synchronized BillomatConfiguration copySettings() {
+        final BillomatConfiguration copy = new BillomatConfiguration();
+        copy.secure = secure;
+        copy.ignoreUnknownProperties = ignoreUnknownProperties;
+        copy.pageFetchConcurrency = pageFetchConcurrency;
+        copy.executor = executor;
+        copy.maxRequestsPerSecond = maxRequestsPerSecond;
+        copy.maxRetries = maxRetries;
+        copy.retryBaseDelay = retryBaseDelay;
+        copy.httpTransport = httpTransport;
+        copy.connectTimeout = connectTimeout;
+        copy.requestTimeout = requestTimeout;
+        copy.cacheTtls.putAll(cacheTtls);
+        copy.cacheMaxEntries = cacheMaxEntries;
+        copy.bulkConcurrency = bulkConcurrency;
+        copy.requestListener = requestListener;
+        copy.compressResponses = compressResponses;
+        copy.requestCompressionThreshold = requestCompressionThreshold;
+        copy.conditionalCacheMaxBytes = conditionalCacheMaxBytes;
+        copy.conditionalCacheDirectory = conditionalCacheDirectory;
+        copy.coalesceRequests = coalesceRequests;
+        copy.pageRetries = pageRetries;
+        copy.shardMaxRecords = shardMaxRecords;
+        copy.shardConcurrency = shardConcurrency;
+        copy.generatedAccessors = generatedAccessors;
+        copy.deduplicationMaxEntries = deduplicationMaxEntries;
+        copy.codecs = codecs;
+        return copy;
     }
 
     synchronized void init() {
@@ -134,42 +591,16 @@ public class BillomatConfiguration {
         Objects.requireNonNull(apiKey, "apiKey not configured");
 
         requestHelper = new RequestHelper(this);
+        initCodecs();
+    }
 
-        final ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-
-        objectMapper.registerModule(new JavaTimeModule());
-
-        objectMapper.registerModule(
-            new SimpleModule("CustomBooleanDeserializer",
-                new Version(1, 0, 0, null, GROUP_ID, ARTIFACT_ID))
-                .addDeserializer(Boolean.class, new CustomBooleanDeserializer()));
-
-        objectMapper.registerModule(
-            new SimpleModule("PaymentTypesDeserializer",
-                new Version(1, 0, 0, null, GROUP_ID, ARTIFACT_ID))
-                .addDeserializer(PaymentType[].class, new PaymentTypesDeserializer()));
-
-        objectMapper.registerModule(
-            new SimpleModule("PaymentTypesSerializer",
-                new Version(1, 0, 0, null, GROUP_ID, ARTIFACT_ID))
-                .addSerializer(PaymentType[].class, new PaymentTypesSerializer()));
-
-        objectReader = objectMapper.reader()
-            .with(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
-            .with(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT)
-            .with(DeserializationFeature.UNWRAP_ROOT_VALUE);
-
-        if (isIgnoreUnknownProperties()) {
-            objectReader = objectReader.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    /**
+     * Creates the readers and writers - they're immutable and may be shared by multiple configurations.
+     */
+    synchronized void initCodecs() {
+        if (codecs == null) {
+            codecs = new CodecRegistry(this);
         }
-
-        objectWriter = objectMapper.writer()
-            .withView(Views.Default.class)
-            .with(SerializationFeature.WRAP_ROOT_VALUE)
-            .without(SerializationFeature.WRITE_CHAR_ARRAYS_AS_JSON_ARRAYS)
-            .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     }
 
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Runs asynchronous tasks for a list of inputs with a bounded number of concurrent tasks.
+ */
+final class BulkExecutor {
+
+    private BulkExecutor() {
+    }
+
+    /**
+     * Applies the task to all inputs. At most {@code concurrency} tasks are running at the same
+     * time. A failing task does not affect the other tasks.
+     *
+     * @param inputs      the inputs to process
+     * @param concurrency the maximum number of concurrently running tasks
+     * @param task        the task to apply to each input
+     * @param <T>         the input type
+     * @param <R>         the result type
+     * @return the futures of all tasks - in the same order as the inputs
+     */
+    static <T, R> List<CompletableFuture<R>> submit(final List<T> inputs, final int concurrency,
+                                                    final Function<T, CompletableFuture<R>> task) {
+
+        final List<CompletableFuture<R>> results = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            results.add(new CompletableFuture<>());
+        }
+
+        // Each lane processes every n-th input sequentially - this limits the number of concurrent tasks
+        final int lanes = Math.max(1, Math.min(concurrency, inputs.size()));
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int i = lane; i < inputs.size(); i += lanes) {
+                final T input = inputs.get(i);
+                final CompletableFuture<R> result = results.get(i);
+                chain = chain
+                    .thenCompose(v -> task.apply(input))
+                    .handle((value, ex) -> {
+                        if (ex == null) {
+                            result.complete(value);
+                        } else {
+                            result.completeExceptionally(ex);
+                        }
+                        return null;
+                    });
+            }
+        }
+
+        return results;
+    }
+
+}
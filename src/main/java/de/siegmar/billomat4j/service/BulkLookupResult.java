@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The result of a lookup of multiple records by id (e.g. {@link InvoiceService#getInvoicesByIds}).
+ *
+ * @param <T> the type of the records
+ */
+public final class BulkLookupResult<T> {
+
+    private final Map<Integer, T> found;
+    private final Set<Integer> missing;
+
+    BulkLookupResult(final Map<Integer, T> found, final Set<Integer> missing) {
+        this.found = Collections.unmodifiableMap(found);
+        this.missing = Collections.unmodifiableSet(missing);
+    }
+
+    /**
+     * @return the found records by id - in the order of the requested ids
+     */
+    public Map<Integer, T> getFound() {
+        return found;
+    }
+
+    /**
+     * @return the ids of records that don't exist - in the order of the requested ids
+     */
+    public Set<Integer> getMissing() {
+        return missing;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkLookupResult [found=" + found.keySet() + ", missing=" + missing + "]";
+    }
+
+}
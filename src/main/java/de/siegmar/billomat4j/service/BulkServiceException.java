@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thrown if one or more operations of a bulk request failed. The successful operations are not
+ * affected.
+ */
+public class BulkServiceException extends ServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Map<Object, Throwable> failures;
+
+    public BulkServiceException(final String message, final Map<?, ? extends Throwable> failures) {
+        super(message);
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    /**
+     * @return the failed inputs (e.g. items to be created) with their respective failure cause
+     */
+    public Map<Object, Throwable> getFailures() {
+        return failures;
+    }
+
+}
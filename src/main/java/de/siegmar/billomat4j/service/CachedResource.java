@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+/**
+ * Rarely changing resources that can be cached client side.
+ *
+ * @see BillomatConfiguration#setCacheTtl(CachedResource, java.time.Duration)
+ */
+public enum CachedResource {
+
+    SETTINGS("settings"),
+    TAXES("taxes"),
+    COUNTRY_TAXES("country-taxes"),
+    REMINDER_TEXTS("reminder-texts"),
+    UNITS("units"),
+    TEMPLATES("templates"),
+    ARTICLE_PROPERTIES("article-properties"),
+    CLIENT_PROPERTIES("client-properties"),
+    USER_PROPERTIES("user-properties");
+
+    private final String resourceName;
+
+    CachedResource(final String resourceName) {
+        this.resourceName = resourceName;
+    }
+
+    /**
+     * @return the name of the API resource (e.g. {@code taxes})
+     */
+    public String getResourceName() {
+        return resourceName;
+    }
+
+}
@@ -19,8 +19,11 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 
@@ -80,6 +83,77 @@ public class ClientService extends AbstractService
         return getAllPagesFromResource(RESOURCE, Clients.class, clientFilter);
     }
 
+    /**
+     * Counts clients without fetching them - a single request is sent regardless of the number
+     * of clients found.
+     *
+     * @param clientFilter client filter, may be {@code null} to count all clients
+     * @return the number of clients found by filter criteria
+     * @throws ServiceException if an error occurred while accessing the web service
+     */
+    public int countClients(final ClientFilter clientFilter) {
+        return countFromResource(RESOURCE, Clients.class, clientFilter);
+    }
+
+    /**
+     * Counts clients for multiple filters by concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param clientFilters client filters, elements may be {@code null} to count all clients
+     * @return the number of clients per filter - in the same order as the filters
+     * @throws BulkServiceException if one or more counts failed
+     * @see #countClients(ClientFilter)
+     */
+    public List<Integer> countClientsByFilters(final List<ClientFilter> clientFilters) {
+        return countFromResource(RESOURCE, Clients.class, Validate.notNull(clientFilters));
+    }
+
+    /**
+     * Streams clients page by page - only a single page of clients is held in memory at any time.
+     *
+     * @param clientFilter client filter, may be {@code null} to find unfiltered
+     * @return a lazily populated stream of clients found by filter criteria - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see #findClients(ClientFilter)
+     */
+    public Stream<Client> streamClients(final ClientFilter clientFilter) {
+        return streamAllPagesFromResource(RESOURCE, Clients.class, clientFilter);
+    }
+
+    /**
+     * Scans clients page by page - pages are retried individually and the scan can be continued
+     * later from its cursor.
+     *
+     * @param clientFilter client filter, may be {@code null} to find unfiltered
+     * @return a scan of clients found by filter criteria - never {@code null}
+     * @see #resumeClientScan(ScanCursor)
+     */
+    public PagedScan<Client> scanClients(final ClientFilter clientFilter) {
+        return scanPagesFromResource(RESOURCE, Clients.class, clientFilter);
+    }
+
+    /**
+     * Continues a scan started by {@link #scanClients(ClientFilter)}.
+     *
+     * @param cursor the cursor of the scan to continue
+     * @return a scan continuing after the last completed page of the cursor - never {@code null}
+     * @throws IllegalArgumentException if the cursor doesn't belong to a scan of clients
+     */
+    public PagedScan<Client> resumeClientScan(final ScanCursor cursor) {
+        return resumePagedScan(RESOURCE, Clients.class, cursor);
+    }
+
+    /**
+     * Asynchronous variant of {@link #findClients(ClientFilter)}.
+     *
+     * @param clientFilter client filter, may be {@code null} to find unfiltered
+     * @return the future list of clients found by filter criteria - completes exceptionally with a
+     * {@link ServiceException} if an error occurred while accessing the web service
+     */
+    public CompletableFuture<List<Client>> findClientsAsync(final ClientFilter clientFilter) {
+        return getAllPagesFromResourceAsync(RESOURCE, Clients.class, clientFilter);
+    }
+
     /**
      * Gets a client by its id.
      *
@@ -91,6 +165,32 @@ public class ClientService extends AbstractService
         return getById(RESOURCE, Client.class, clientId);
     }
 
+    /**
+     * Gets multiple clients by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param clientIds the clients' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found clients and the ids of clients that don't exist
+     * @throws NullPointerException     if clientIds is null
+     * @throws IllegalArgumentException if clientIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getClientById(int)
+     */
+    public BulkLookupResult<Client> getClientsByIds(final Collection<Integer> clientIds) {
+        return getByIds(RESOURCE, Client.class, clientIds);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getClientById(int)}.
+     *
+     * @param clientId the client's id
+     * @return the future client - completes exceptionally with a {@link ServiceException} if an error
+     * occurred while accessing the web service
+     */
+    public CompletableFuture<Optional<Client>> getClientByIdAsync(final int clientId) {
+        return getByIdAsync(RESOURCE, Client.class, clientId);
+    }
+
     /**
      * Gets a client by its client number.
      *
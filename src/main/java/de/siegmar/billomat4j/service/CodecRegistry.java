@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import de.siegmar.billomat4j.domain.WrappedRecord;
+import de.siegmar.billomat4j.domain.article.ArticlePropertyValues;
+import de.siegmar.billomat4j.domain.article.ArticleTags;
+import de.siegmar.billomat4j.domain.article.Articles;
+import de.siegmar.billomat4j.domain.client.ClientPropertyValues;
+import de.siegmar.billomat4j.domain.client.ClientTags;
+import de.siegmar.billomat4j.domain.client.Clients;
+import de.siegmar.billomat4j.domain.client.Contacts;
+import de.siegmar.billomat4j.domain.confirmation.ConfirmationComments;
+import de.siegmar.billomat4j.domain.confirmation.ConfirmationItems;
+import de.siegmar.billomat4j.domain.confirmation.ConfirmationTags;
+import de.siegmar.billomat4j.domain.confirmation.Confirmations;
+import de.siegmar.billomat4j.domain.creditnote.CreditNoteComments;
+import de.siegmar.billomat4j.domain.creditnote.CreditNoteGroups;
+import de.siegmar.billomat4j.domain.creditnote.CreditNoteItems;
+import de.siegmar.billomat4j.domain.creditnote.CreditNotePayments;
+import de.siegmar.billomat4j.domain.creditnote.CreditNoteTags;
+import de.siegmar.billomat4j.domain.creditnote.CreditNotes;
+import de.siegmar.billomat4j.domain.deliverynote.DeliveryNoteComments;
+import de.siegmar.billomat4j.domain.deliverynote.DeliveryNoteItems;
+import de.siegmar.billomat4j.domain.deliverynote.DeliveryNoteTags;
+import de.siegmar.billomat4j.domain.deliverynote.DeliveryNotes;
+import de.siegmar.billomat4j.domain.invoice.InvoiceComments;
+import de.siegmar.billomat4j.domain.invoice.InvoiceGroups;
+import de.siegmar.billomat4j.domain.invoice.InvoiceItems;
+import de.siegmar.billomat4j.domain.invoice.InvoicePayments;
+import de.siegmar.billomat4j.domain.invoice.InvoiceSummaries;
+import de.siegmar.billomat4j.domain.invoice.InvoiceTags;
+import de.siegmar.billomat4j.domain.invoice.Invoices;
+import de.siegmar.billomat4j.domain.invoice.LazyInvoices;
+import de.siegmar.billomat4j.domain.offer.OfferComments;
+import de.siegmar.billomat4j.domain.offer.OfferItems;
+import de.siegmar.billomat4j.domain.offer.OfferTags;
+import de.siegmar.billomat4j.domain.offer.Offers;
+import de.siegmar.billomat4j.domain.recurring.RecurringEmailReceivers;
+import de.siegmar.billomat4j.domain.recurring.RecurringItems;
+import de.siegmar.billomat4j.domain.recurring.RecurringTags;
+import de.siegmar.billomat4j.domain.recurring.Recurrings;
+import de.siegmar.billomat4j.domain.reminder.ReminderItems;
+import de.siegmar.billomat4j.domain.reminder.ReminderTags;
+import de.siegmar.billomat4j.domain.reminder.Reminders;
+import de.siegmar.billomat4j.domain.settings.ArticleProperties;
+import de.siegmar.billomat4j.domain.settings.BccAddresses;
+import de.siegmar.billomat4j.domain.settings.ClientProperties;
+import de.siegmar.billomat4j.domain.settings.CountryTaxes;
+import de.siegmar.billomat4j.domain.settings.ReminderTexts;
+import de.siegmar.billomat4j.domain.settings.Taxes;
+import de.siegmar.billomat4j.domain.settings.UserProperties;
+import de.siegmar.billomat4j.domain.template.Templates;
+import de.siegmar.billomat4j.domain.types.PaymentType;
+import de.siegmar.billomat4j.domain.unit.Units;
+import de.siegmar.billomat4j.domain.user.UserPropertyValues;
+import de.siegmar.billomat4j.domain.user.Users;
+import de.siegmar.billomat4j.json.CustomBooleanDeserializer;
+import de.siegmar.billomat4j.json.DeduplicatingBigDecimalDeserializer;
+import de.siegmar.billomat4j.json.DeduplicatingStringDeserializer;
+import de.siegmar.billomat4j.json.LazyRecordDeserializer;
+import de.siegmar.billomat4j.json.PaymentTypesDeserializer;
+import de.siegmar.billomat4j.json.PaymentTypesSerializer;
+import de.siegmar.billomat4j.json.ValuePool;
+import de.siegmar.billomat4j.json.Views;
+
+// CSOFF: ClassFanOutComplexity
+/**
+ * Creates and caches the JSON readers and writers per type. Resolving the (de)serializers of a type is
+ * costly for its first use - the readers and writers are immutable and shared by all services (and
+ * configurations, see {@link TenantRegistry}) using this registry.
+ */
+final class CodecRegistry {
+
+    private static final String GROUP_ID = "de.siegmar";
+    private static final String ARTIFACT_ID = "billomat4j";
+
+    /**
+     * The wrapper types of all lists provided by the services whose records are also written.
+     */
+    private static final List<Class<?>> WRAPPER_TYPES = List.of(
+        ArticlePropertyValues.class, ArticleTags.class, Articles.class, ClientPropertyValues.class, ClientTags.class,
+        Clients.class, Contacts.class, ConfirmationComments.class, ConfirmationItems.class, ConfirmationTags.class,
+        Confirmations.class, CreditNoteComments.class, CreditNoteItems.class, CreditNotePayments.class,
+        CreditNoteTags.class, CreditNotes.class, DeliveryNoteComments.class, DeliveryNoteItems.class,
+        DeliveryNoteTags.class, DeliveryNotes.class, InvoiceComments.class, InvoiceItems.class, InvoicePayments.class,
+        InvoiceTags.class, Invoices.class, OfferComments.class, OfferItems.class, OfferTags.class, Offers.class,
+        RecurringEmailReceivers.class, RecurringItems.class, RecurringTags.class, Recurrings.class, ReminderItems.class,
+        ReminderTags.class, Reminders.class, ArticleProperties.class, ClientProperties.class, CountryTaxes.class,
+        ReminderTexts.class, Taxes.class, UserProperties.class, Templates.class, Units.class, UserPropertyValues.class
+    );
+
+    /**
+     * The wrapper types of lists whose records are only read - e.g. projections.
+     */
+    private static final List<Class<?>> READ_ONLY_WRAPPER_TYPES = List.of(
+        BccAddresses.class, CreditNoteGroups.class, InvoiceGroups.class, InvoiceSummaries.class, Users.class
+    );
+
+    /**
+     * The wrapper types of lazily bound lists - their records are read by record readers on access.
+     */
+    private static final List<Class<?>> LAZY_WRAPPER_TYPES = List.of(LazyInvoices.class);
+
+    private final ObjectReader objectReader;
+    private final ObjectWriter objectWriter;
+    private final ObjectMapper treeMapper = new ObjectMapper();
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectReader> recordReaders = new ConcurrentHashMap<>();
+
+    CodecRegistry(final BillomatConfiguration configuration) {
+        final ObjectMapper objectMapper = createObjectMapper(configuration);
+
+        final ObjectReader reader = objectMapper.reader()
+            .with(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+            .with(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT)
+            .with(DeserializationFeature.UNWRAP_ROOT_VALUE)
+            .with(new InjectableValues.Std().addValue(LazyRecordDeserializer.RECORD_READERS,
+                (Function<Class<?>, ObjectReader>) this::recordReaderFor))
+            // streamed responses are closed by the RequestHelper after being consumed entirely
+            .without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+        objectReader = configuration.isIgnoreUnknownProperties()
+            ? reader.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            : reader;
+
+        objectWriter = objectMapper.writer()
+            .withView(Views.Default.class)
+            .with(SerializationFeature.WRAP_ROOT_VALUE)
+            .without(SerializationFeature.WRITE_CHAR_ARRAYS_AS_JSON_ARRAYS)
+            .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static ObjectMapper createObjectMapper(final BillomatConfiguration configuration) {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        objectMapper.registerModule(new JavaTimeModule());
+
+        objectMapper.registerModule(
+            new SimpleModule("CustomBooleanDeserializer",
+                new Version(1, 0, 0, null, GROUP_ID, ARTIFACT_ID))
+                .addDeserializer(Boolean.class, new CustomBooleanDeserializer()));
+
+        objectMapper.registerModule(
+            new SimpleModule("PaymentTypesDeserializer",
+                new Version(1, 0, 0, null, GROUP_ID, ARTIFACT_ID))
+                .addDeserializer(PaymentType[].class, new PaymentTypesDeserializer()));
+
+        objectMapper.registerModule(
+            new SimpleModule("PaymentTypesSerializer",
+                new Version(1, 0, 0, null, GROUP_ID, ARTIFACT_ID))
+                .addSerializer(PaymentType[].class, new PaymentTypesSerializer()));
+
+        final int deduplicationMaxEntries = configuration.getDeduplicationMaxEntries();
+        if (deduplicationMaxEntries > 0) {
+            objectMapper.registerModule(
+                new SimpleModule("DeduplicatingDeserializers",
+                    new Version(1, 0, 0, null, GROUP_ID, ARTIFACT_ID))
+                    .addDeserializer(String.class,
+                        new DeduplicatingStringDeserializer(new ValuePool<>(deduplicationMaxEntries),
+                            DeduplicatingStringDeserializer.DEFAULT_PROPERTIES))
+                    .addDeserializer(BigDecimal.class,
+                        new DeduplicatingBigDecimalDeserializer(new ValuePool<>(deduplicationMaxEntries),
+                            DeduplicatingBigDecimalDeserializer.DEFAULT_PROPERTIES)));
+        }
+
+        if (configuration.isGeneratedAccessors()) {
+            // checks if Blackbird is available - it's an optional dependency
+            objectMapper.registerModule(GeneratedAccessors.createModule());
+        }
+
+        return objectMapper;
+    }
+
+    /**
+     * @return the untyped reader - e.g. for accessing its parser factory
+     */
+    ObjectReader getObjectReader() {
+        return objectReader;
+    }
+
+    /**
+     * @return the untyped writer
+     */
+    ObjectWriter getObjectWriter() {
+        return objectWriter;
+    }
+
+    ObjectReader readerFor(final Class<?> type) {
+        return readers.computeIfAbsent(type, objectReader::forType);
+    }
+
+    /**
+     * @param type the type of the record
+     * @return the reader for records without root name - as captured by lazily bound lists
+     */
+    ObjectReader recordReaderFor(final Class<?> type) {
+        return recordReaders.computeIfAbsent(type,
+            t -> readerFor(t).without(DeserializationFeature.UNWRAP_ROOT_VALUE));
+    }
+
+    ObjectWriter writerFor(final Class<?> type) {
+        return writers.computeIfAbsent(type, objectWriter::forType);
+    }
+
+    /**
+     * @param value the object to update with the JSON read
+     * @return the reader updating the given object
+     */
+    ObjectReader updaterFor(final Object value) {
+        return readerFor(value.getClass()).withValueToUpdate(value);
+    }
+
+    /**
+     * @param value the object to write - wrapped in its root name
+     * @return the JSON
+     * @throws JsonProcessingException if the JSON couldn't be written
+     */
+    byte[] write(final Object value) throws JsonProcessingException {
+        return writerFor(value.getClass()).writeValueAsBytes(value);
+    }
+
+    /**
+     * @param data the JSON to read - without unwrapping the root value
+     * @return the JSON tree
+     * @throws IOException if the JSON couldn't be read
+     */
+    JsonNode readTree(final byte[] data) throws IOException {
+        return treeMapper.readTree(data);
+    }
+
+    /**
+     * @param node the JSON tree to write - without wrapping the root value
+     * @return the JSON
+     * @throws JsonProcessingException if the JSON couldn't be written
+     */
+    byte[] writeTree(final JsonNode node) throws JsonProcessingException {
+        return treeMapper.writeValueAsBytes(node);
+    }
+
+    ObjectNode createObjectNode() {
+        return treeMapper.createObjectNode();
+    }
+
+    /**
+     * Resolves the readers of all wrapper types and their records - and the writers of the records written
+     * by the services.
+     */
+    void warmUp() {
+        final TypeFactory typeFactory = objectReader.getTypeFactory();
+        for (final Class<?> wrapperType : WRAPPER_TYPES) {
+            final Class<?> recordType = recordType(typeFactory, wrapperType).getRawClass();
+            readerFor(wrapperType);
+            readerFor(recordType);
+            writerFor(recordType);
+        }
+        for (final Class<?> wrapperType : READ_ONLY_WRAPPER_TYPES) {
+            readerFor(wrapperType);
+            readerFor(recordType(typeFactory, wrapperType).getRawClass());
+        }
+        for (final Class<?> wrapperType : LAZY_WRAPPER_TYPES) {
+            readerFor(wrapperType);
+            recordReaderFor(recordType(typeFactory, wrapperType).containedType(0).getRawClass());
+        }
+    }
+
+    private static JavaType recordType(final TypeFactory typeFactory, final Class<?> wrapperType) {
+        return typeFactory.constructType(wrapperType).findTypeParameters(WrappedRecord.class)[0];
+    }
+
+}
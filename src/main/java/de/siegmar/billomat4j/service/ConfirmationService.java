@@ -19,8 +19,14 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 
@@ -75,6 +81,95 @@ public class ConfirmationService extends AbstractService
         return getAllPagesFromResource(RESOURCE, Confirmations.class, confirmationFilter);
     }
 
+    /**
+     * Counts confirmations without fetching them - a single request is sent regardless of the number
+     * of confirmations found.
+     *
+     * @param confirmationFilter confirmation filter, may be {@code null} to count all confirmations
+     * @return the number of confirmations found by filter criteria
+     * @throws ServiceException if an error occurred while accessing the web service
+     */
+    public int countConfirmations(final ConfirmationFilter confirmationFilter) {
+        return countFromResource(RESOURCE, Confirmations.class, confirmationFilter);
+    }
+
+    /**
+     * Counts confirmations for multiple filters by concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param confirmationFilters confirmation filters, elements may be {@code null} to count all confirmations
+     * @return the number of confirmations per filter - in the same order as the filters
+     * @throws BulkServiceException if one or more counts failed
+     * @see #countConfirmations(ConfirmationFilter)
+     */
+    public List<Integer> countConfirmationsByFilters(final List<ConfirmationFilter> confirmationFilters) {
+        return countFromResource(RESOURCE, Confirmations.class, Validate.notNull(confirmationFilters));
+    }
+
+    /**
+     * Streams confirmations page by page - only a single page of confirmations is held in memory at any time.
+     *
+     * @param confirmationFilter confirmation filter, may be {@code null} to find unfiltered
+     * @return a lazily populated stream of confirmations found by filter criteria - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see #findConfirmations(ConfirmationFilter)
+     */
+    public Stream<Confirmation> streamConfirmations(final ConfirmationFilter confirmationFilter) {
+        return streamAllPagesFromResource(RESOURCE, Confirmations.class, confirmationFilter);
+    }
+
+    /**
+     * Scans confirmations page by page - pages are retried individually and the scan can be continued
+     * later from its cursor.
+     *
+     * @param confirmationFilter confirmation filter, may be {@code null} to find unfiltered
+     * @return a scan of confirmations found by filter criteria - never {@code null}
+     * @see #resumeConfirmationScan(ScanCursor)
+     */
+    public PagedScan<Confirmation> scanConfirmations(final ConfirmationFilter confirmationFilter) {
+        return scanPagesFromResource(RESOURCE, Confirmations.class, confirmationFilter);
+    }
+
+    /**
+     * Continues a scan started by {@link #scanConfirmations(ConfirmationFilter)}.
+     *
+     * @param cursor the cursor of the scan to continue
+     * @return a scan continuing after the last completed page of the cursor - never {@code null}
+     * @throws IllegalArgumentException if the cursor doesn't belong to a scan of confirmations
+     */
+    public PagedScan<Confirmation> resumeConfirmationScan(final ScanCursor cursor) {
+        return resumePagedScan(RESOURCE, Confirmations.class, cursor);
+    }
+
+    /**
+     * Finds all confirmations dated within the given range by scanning date shards concurrently. Suited for
+     * large extracts - the result is not affected by confirmations being created while scanning.
+     *
+     * @param confirmationFilter confirmation filter, may be {@code null} to find unfiltered - a date range
+     *                           configured by the filter is replaced by the given one
+     * @param from               the first day of the range (inclusive), must not be {@code null}
+     * @param to                 the last day of the range (inclusive), must not be {@code null}
+     * @return confirmations found by filter criteria, ordered by id - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see BillomatConfiguration#setShardMaxRecords(int)
+     * @see BillomatConfiguration#setShardConcurrency(int)
+     */
+    public List<Confirmation> findConfirmationsSharded(final ConfirmationFilter confirmationFilter,
+                                                       final LocalDate from, final LocalDate to) {
+        return getShardedFromResource(RESOURCE, Confirmations.class, confirmationFilter, from, to);
+    }
+
+    /**
+     * Asynchronous variant of {@link #findConfirmations(ConfirmationFilter)}.
+     *
+     * @param confirmationFilter confirmation filter, may be {@code null} to find unfiltered
+     * @return the future list of confirmations found by filter criteria - completes exceptionally with a
+     * {@link ServiceException} if an error occurred while accessing the web service
+     */
+    public CompletableFuture<List<Confirmation>> findConfirmationsAsync(final ConfirmationFilter confirmationFilter) {
+        return getAllPagesFromResourceAsync(RESOURCE, Confirmations.class, confirmationFilter);
+    }
+
     /**
      * Gets a confirmation by its id.
      *
@@ -86,6 +181,32 @@ public class ConfirmationService extends AbstractService
         return getById(RESOURCE, Confirmation.class, confirmationId);
     }
 
+    /**
+     * Gets multiple confirmations by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param confirmationIds the confirmations' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found confirmations and the ids of confirmations that don't exist
+     * @throws NullPointerException     if confirmationIds is null
+     * @throws IllegalArgumentException if confirmationIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getConfirmationById(int)
+     */
+    public BulkLookupResult<Confirmation> getConfirmationsByIds(final Collection<Integer> confirmationIds) {
+        return getByIds(RESOURCE, Confirmation.class, confirmationIds);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getConfirmationById(int)}.
+     *
+     * @param confirmationId the confirmation's id
+     * @return the future confirmation - completes exceptionally with a {@link ServiceException} if an error
+     * occurred while accessing the web service
+     */
+    public CompletableFuture<Optional<Confirmation>> getConfirmationByIdAsync(final int confirmationId) {
+        return getByIdAsync(RESOURCE, Confirmation.class, confirmationId);
+    }
+
     /**
      * Gets a confirmation by its confirmation number.
      *
@@ -135,6 +256,33 @@ public class ConfirmationService extends AbstractService
         return getPdf(RESOURCE, ConfirmationPdf.class, confirmationId, null);
     }
 
+    /**
+     * Streams the confirmation PDF to the given output stream without buffering the whole document in memory.
+     *
+     * @param confirmationId the id of the confirmation to get the PDF for
+     * @param out            the stream to write the PDF to, must not be {@code null} - it is not closed by this method
+     * @return {@code true} if the PDF was written, {@code false} if the confirmation was not found
+     * @throws NullPointerException if out is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadConfirmationPdf(final int confirmationId, final OutputStream out) {
+        return downloadPdf(RESOURCE, confirmationId, null, Validate.notNull(out));
+    }
+
+    /**
+     * Streams the confirmation PDF to the given file without buffering the whole document in memory.
+     * An existing file is only replaced if the PDF was downloaded completely.
+     *
+     * @param confirmationId the id of the confirmation to get the PDF for
+     * @param target         the file to write the PDF to, must not be {@code null}
+     * @return {@code true} if the PDF was written, {@code false} if the confirmation was not found
+     * @throws NullPointerException if target is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadConfirmationPdf(final int confirmationId, final Path target) {
+        return downloadPdf(RESOURCE, confirmationId, null, Validate.notNull(target));
+    }
+
     /**
      * Sets the confirmation status to
      * {@link de.siegmar.billomat4j.domain.confirmation.ConfirmationStatus#COMPLETED}.
@@ -197,6 +345,12 @@ public class ConfirmationService extends AbstractService
         return getAllPagesFromResource(RESOURCE_ITEMS, ConfirmationItems.class, confirmationIdFilter(confirmationId));
     }
 
+    @Override
+    public CompletableFuture<List<ConfirmationItem>> getItemsAsync(final int confirmationId) {
+        return getAllPagesFromResourceAsync(RESOURCE_ITEMS, ConfirmationItems.class,
+            confirmationIdFilter(confirmationId));
+    }
+
     private GenericFilter confirmationIdFilter(final Integer confirmationId) {
         return confirmationId == null ? null : new GenericFilter("confirmation_id", confirmationId);
     }
@@ -211,6 +365,11 @@ public class ConfirmationService extends AbstractService
         create(RESOURCE_ITEMS, Validate.notNull(confirmationItem));
     }
 
+    @Override
+    public void createItems(final List<ConfirmationItem> confirmationItems) {
+        createAll(RESOURCE_ITEMS, Validate.noNullElements(confirmationItems));
+    }
+
     @Override
     public void updateItem(final ConfirmationItem confirmationItem) {
         update(RESOURCE_ITEMS, Validate.notNull(confirmationItem));
@@ -19,10 +19,16 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 
@@ -84,6 +90,95 @@ public class CreditNoteService extends AbstractService
         return getAllPagesFromResource(RESOURCE, CreditNotes.class, creditNoteFilter);
     }
 
+    /**
+     * Counts credit notes without fetching them - a single request is sent regardless of the number
+     * of credit notes found.
+     *
+     * @param creditNoteFilter credit note filter, may be {@code null} to count all credit notes
+     * @return the number of credit notes found by filter criteria
+     * @throws ServiceException if an error occurred while accessing the web service
+     */
+    public int countCreditNotes(final CreditNoteFilter creditNoteFilter) {
+        return countFromResource(RESOURCE, CreditNotes.class, creditNoteFilter);
+    }
+
+    /**
+     * Counts credit notes for multiple filters by concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param creditNoteFilters credit note filters, elements may be {@code null} to count all credit notes
+     * @return the number of credit notes per filter - in the same order as the filters
+     * @throws BulkServiceException if one or more counts failed
+     * @see #countCreditNotes(CreditNoteFilter)
+     */
+    public List<Integer> countCreditNotesByFilters(final List<CreditNoteFilter> creditNoteFilters) {
+        return countFromResource(RESOURCE, CreditNotes.class, Validate.notNull(creditNoteFilters));
+    }
+
+    /**
+     * Streams credit notes page by page - only a single page of credit notes is held in memory at any time.
+     *
+     * @param creditNoteFilter credit note filter, may be {@code null} to find unfiltered
+     * @return a lazily populated stream of credit notes found by filter criteria - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see #findCreditNotes(CreditNoteFilter)
+     */
+    public Stream<CreditNote> streamCreditNotes(final CreditNoteFilter creditNoteFilter) {
+        return streamAllPagesFromResource(RESOURCE, CreditNotes.class, creditNoteFilter);
+    }
+
+    /**
+     * Scans credit notes page by page - pages are retried individually and the scan can be continued
+     * later from its cursor.
+     *
+     * @param creditNoteFilter credit note filter, may be {@code null} to find unfiltered
+     * @return a scan of credit notes found by filter criteria - never {@code null}
+     * @see #resumeCreditNoteScan(ScanCursor)
+     */
+    public PagedScan<CreditNote> scanCreditNotes(final CreditNoteFilter creditNoteFilter) {
+        return scanPagesFromResource(RESOURCE, CreditNotes.class, creditNoteFilter);
+    }
+
+    /**
+     * Continues a scan started by {@link #scanCreditNotes(CreditNoteFilter)}.
+     *
+     * @param cursor the cursor of the scan to continue
+     * @return a scan continuing after the last completed page of the cursor - never {@code null}
+     * @throws IllegalArgumentException if the cursor doesn't belong to a scan of credit notes
+     */
+    public PagedScan<CreditNote> resumeCreditNoteScan(final ScanCursor cursor) {
+        return resumePagedScan(RESOURCE, CreditNotes.class, cursor);
+    }
+
+    /**
+     * Finds all credit notes dated within the given range by scanning date shards concurrently. Suited for
+     * large extracts - the result is not affected by credit notes being created while scanning.
+     *
+     * @param creditNoteFilter credit note filter, may be {@code null} to find unfiltered - a date range
+     *                         configured by the filter is replaced by the given one
+     * @param from             the first day of the range (inclusive), must not be {@code null}
+     * @param to               the last day of the range (inclusive), must not be {@code null}
+     * @return credit notes found by filter criteria, ordered by id - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see BillomatConfiguration#setShardMaxRecords(int)
+     * @see BillomatConfiguration#setShardConcurrency(int)
+     */
+    public List<CreditNote> findCreditNotesSharded(final CreditNoteFilter creditNoteFilter, final LocalDate from,
+                                                   final LocalDate to) {
+        return getShardedFromResource(RESOURCE, CreditNotes.class, creditNoteFilter, from, to);
+    }
+
+    /**
+     * Asynchronous variant of {@link #findCreditNotes(CreditNoteFilter)}.
+     *
+     * @param creditNoteFilter credit note filter, may be {@code null} to find unfiltered
+     * @return the future list of credit notes found by filter criteria - completes exceptionally with a
+     * {@link ServiceException} if an error occurred while accessing the web service
+     */
+    public CompletableFuture<List<CreditNote>> findCreditNotesAsync(final CreditNoteFilter creditNoteFilter) {
+        return getAllPagesFromResourceAsync(RESOURCE, CreditNotes.class, creditNoteFilter);
+    }
+
     /**
      * @param creditNoteGroupFilter the group definition, must not be {@code null}
      * @param creditNoteFilter      the filter criteria, optional - may be {@code null}
@@ -111,6 +206,32 @@ public class CreditNoteService extends AbstractService
         return getById(RESOURCE, CreditNote.class, creditNoteId);
     }
 
+    /**
+     * Gets multiple credit notes by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param creditNoteIds the credit notes' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found credit notes and the ids of credit notes that don't exist
+     * @throws NullPointerException     if creditNoteIds is null
+     * @throws IllegalArgumentException if creditNoteIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getCreditNoteById(int)
+     */
+    public BulkLookupResult<CreditNote> getCreditNotesByIds(final Collection<Integer> creditNoteIds) {
+        return getByIds(RESOURCE, CreditNote.class, creditNoteIds);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCreditNoteById(int)}.
+     *
+     * @param creditNoteId the credit note's id
+     * @return the future credit note - completes exceptionally with a {@link ServiceException} if an error
+     * occurred while accessing the web service
+     */
+    public CompletableFuture<Optional<CreditNote>> getCreditNoteByIdAsync(final int creditNoteId) {
+        return getByIdAsync(RESOURCE, CreditNote.class, creditNoteId);
+    }
+
     /**
      * Gets a credit note by its credit note number.
      *
@@ -164,6 +285,33 @@ public class CreditNoteService extends AbstractService
         return getPdf(RESOURCE, CreditNotePdf.class, creditNoteId, filter);
     }
 
+    /**
+     * Streams the credit note PDF to the given output stream without buffering the whole document in memory.
+     *
+     * @param creditNoteId the id of the credit note to get the PDF for
+     * @param out          the stream to write the PDF to, must not be {@code null} - it is not closed by this method
+     * @return {@code true} if the PDF was written, {@code false} if the credit note was not found
+     * @throws NullPointerException if out is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadCreditNotePdf(final int creditNoteId, final OutputStream out) {
+        return downloadPdf(RESOURCE, creditNoteId, null, Validate.notNull(out));
+    }
+
+    /**
+     * Streams the credit note PDF to the given file without buffering the whole document in memory.
+     * An existing file is only replaced if the PDF was downloaded completely.
+     *
+     * @param creditNoteId the id of the credit note to get the PDF for
+     * @param target       the file to write the PDF to, must not be {@code null}
+     * @return {@code true} if the PDF was written, {@code false} if the credit note was not found
+     * @throws NullPointerException if target is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadCreditNotePdf(final int creditNoteId, final Path target) {
+        return downloadPdf(RESOURCE, creditNoteId, null, Validate.notNull(target));
+    }
+
     /**
      * @param creditNoteId the id of the credit note to get the signed PDF for
      * @return the signed credit note PDF
@@ -216,6 +364,11 @@ public class CreditNoteService extends AbstractService
         return getAllPagesFromResource(RESOURCE_ITEMS, CreditNoteItems.class, creditNoteIdFilter(creditNoteId));
     }
 
+    @Override
+    public CompletableFuture<List<CreditNoteItem>> getItemsAsync(final int creditNoteId) {
+        return getAllPagesFromResourceAsync(RESOURCE_ITEMS, CreditNoteItems.class, creditNoteIdFilter(creditNoteId));
+    }
+
     @Override
     public Optional<CreditNoteItem> getItemById(final int creditNoteItemId) {
         return getById(RESOURCE_ITEMS, CreditNoteItem.class, creditNoteItemId);
@@ -226,6 +379,11 @@ public class CreditNoteService extends AbstractService
         create(RESOURCE_ITEMS, Validate.notNull(creditNoteItem));
     }
 
+    @Override
+    public void createItems(final List<CreditNoteItem> creditNoteItems) {
+        createAll(RESOURCE_ITEMS, Validate.noNullElements(creditNoteItems));
+    }
+
     @Override
     public void updateItem(final CreditNoteItem creditNoteItem) {
         update(RESOURCE_ITEMS, Validate.notNull(creditNoteItem));
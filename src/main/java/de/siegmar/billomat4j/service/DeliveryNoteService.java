@@ -19,8 +19,14 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 
@@ -69,10 +75,125 @@ public class DeliveryNoteService extends AbstractService
         return getAllPagesFromResource(RESOURCE, DeliveryNotes.class, deliveryNoteFilter);
     }
 
+    /**
+     * Counts delivery notes without fetching them - a single request is sent regardless of the number
+     * of delivery notes found.
+     *
+     * @param deliveryNoteFilter delivery note filter, may be {@code null} to count all delivery notes
+     * @return the number of delivery notes found by filter criteria
+     * @throws ServiceException if an error occurred while accessing the web service
+     */
+    public int countDeliveryNotes(final DeliveryNoteFilter deliveryNoteFilter) {
+        return countFromResource(RESOURCE, DeliveryNotes.class, deliveryNoteFilter);
+    }
+
+    /**
+     * Counts delivery notes for multiple filters by concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param deliveryNoteFilters delivery note filters, elements may be {@code null} to count all delivery notes
+     * @return the number of delivery notes per filter - in the same order as the filters
+     * @throws BulkServiceException if one or more counts failed
+     * @see #countDeliveryNotes(DeliveryNoteFilter)
+     */
+    public List<Integer> countDeliveryNotesByFilters(final List<DeliveryNoteFilter> deliveryNoteFilters) {
+        return countFromResource(RESOURCE, DeliveryNotes.class, Validate.notNull(deliveryNoteFilters));
+    }
+
+    /**
+     * Streams delivery notes page by page - only a single page of delivery notes is held in memory at any time.
+     *
+     * @param deliveryNoteFilter delivery note filter, may be {@code null} to find unfiltered
+     * @return a lazily populated stream of delivery notes found by filter criteria - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see #findDeliveryNotes(DeliveryNoteFilter)
+     */
+    public Stream<DeliveryNote> streamDeliveryNotes(final DeliveryNoteFilter deliveryNoteFilter) {
+        return streamAllPagesFromResource(RESOURCE, DeliveryNotes.class, deliveryNoteFilter);
+    }
+
+    /**
+     * Scans delivery notes page by page - pages are retried individually and the scan can be continued
+     * later from its cursor.
+     *
+     * @param deliveryNoteFilter delivery note filter, may be {@code null} to find unfiltered
+     * @return a scan of delivery notes found by filter criteria - never {@code null}
+     * @see #resumeDeliveryNoteScan(ScanCursor)
+     */
+    public PagedScan<DeliveryNote> scanDeliveryNotes(final DeliveryNoteFilter deliveryNoteFilter) {
+        return scanPagesFromResource(RESOURCE, DeliveryNotes.class, deliveryNoteFilter);
+    }
+
+    /**
+     * Continues a scan started by {@link #scanDeliveryNotes(DeliveryNoteFilter)}.
+     *
+     * @param cursor the cursor of the scan to continue
+     * @return a scan continuing after the last completed page of the cursor - never {@code null}
+     * @throws IllegalArgumentException if the cursor doesn't belong to a scan of delivery notes
+     */
+    public PagedScan<DeliveryNote> resumeDeliveryNoteScan(final ScanCursor cursor) {
+        return resumePagedScan(RESOURCE, DeliveryNotes.class, cursor);
+    }
+
+    /**
+     * Finds all delivery notes dated within the given range by scanning date shards concurrently. Suited for
+     * large extracts - the result is not affected by delivery notes being created while scanning.
+     *
+     * @param deliveryNoteFilter delivery note filter, may be {@code null} to find unfiltered - a date range
+     *                           configured by the filter is replaced by the given one
+     * @param from               the first day of the range (inclusive), must not be {@code null}
+     * @param to                 the last day of the range (inclusive), must not be {@code null}
+     * @return delivery notes found by filter criteria, ordered by id - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see BillomatConfiguration#setShardMaxRecords(int)
+     * @see BillomatConfiguration#setShardConcurrency(int)
+     */
+    public List<DeliveryNote> findDeliveryNotesSharded(final DeliveryNoteFilter deliveryNoteFilter,
+                                                       final LocalDate from, final LocalDate to) {
+        return getShardedFromResource(RESOURCE, DeliveryNotes.class, deliveryNoteFilter, from, to);
+    }
+
+    /**
+     * Asynchronous variant of {@link #findDeliveryNotes(DeliveryNoteFilter)}.
+     *
+     * @param deliveryNoteFilter delivery note filter, may be {@code null} to find unfiltered
+     * @return the future list of delivery notes found by filter criteria - completes exceptionally with a
+     * {@link ServiceException} if an error occurred while accessing the web service
+     */
+    public CompletableFuture<List<DeliveryNote>> findDeliveryNotesAsync(final DeliveryNoteFilter deliveryNoteFilter) {
+        return getAllPagesFromResourceAsync(RESOURCE, DeliveryNotes.class, deliveryNoteFilter);
+    }
+
     public Optional<DeliveryNote> getDeliveryNoteById(final int deliveryNoteId) {
         return getById(RESOURCE, DeliveryNote.class, deliveryNoteId);
     }
 
+    /**
+     * Gets multiple delivery notes by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param deliveryNoteIds the delivery notes' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found delivery notes and the ids of delivery notes that don't exist
+     * @throws NullPointerException     if deliveryNoteIds is null
+     * @throws IllegalArgumentException if deliveryNoteIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getDeliveryNoteById(int)
+     */
+    public BulkLookupResult<DeliveryNote> getDeliveryNotesByIds(final Collection<Integer> deliveryNoteIds) {
+        return getByIds(RESOURCE, DeliveryNote.class, deliveryNoteIds);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getDeliveryNoteById(int)}.
+     *
+     * @param deliveryNoteId the delivery note's id
+     * @return the future delivery note - completes exceptionally with a {@link ServiceException} if an error
+     * occurred while accessing the web service
+     */
+    public CompletableFuture<Optional<DeliveryNote>> getDeliveryNoteByIdAsync(final int deliveryNoteId) {
+        return getByIdAsync(RESOURCE, DeliveryNote.class, deliveryNoteId);
+    }
+
     public Optional<DeliveryNote> getDeliveryNoteByNumber(final String deliveryNoteNumber) {
         Validate.notEmpty(deliveryNoteNumber);
         return single(findDeliveryNotes(new DeliveryNoteFilter().byDeliveryNoteNumber(deliveryNoteNumber)));
@@ -94,6 +215,33 @@ public class DeliveryNoteService extends AbstractService
         return getPdf(RESOURCE, DeliveryNotePdf.class, deliveryNoteId, null);
     }
 
+    /**
+     * Streams the delivery note PDF to the given output stream without buffering the whole document in memory.
+     *
+     * @param deliveryNoteId the id of the delivery note to get the PDF for
+     * @param out            the stream to write the PDF to, must not be {@code null} - it is not closed by this method
+     * @return {@code true} if the PDF was written, {@code false} if the delivery note was not found
+     * @throws NullPointerException if out is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadDeliveryNotePdf(final int deliveryNoteId, final OutputStream out) {
+        return downloadPdf(RESOURCE, deliveryNoteId, null, Validate.notNull(out));
+    }
+
+    /**
+     * Streams the delivery note PDF to the given file without buffering the whole document in memory.
+     * An existing file is only replaced if the PDF was downloaded completely.
+     *
+     * @param deliveryNoteId the id of the delivery note to get the PDF for
+     * @param target         the file to write the PDF to, must not be {@code null}
+     * @return {@code true} if the PDF was written, {@code false} if the delivery note was not found
+     * @throws NullPointerException if target is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadDeliveryNotePdf(final int deliveryNoteId, final Path target) {
+        return downloadPdf(RESOURCE, deliveryNoteId, null, Validate.notNull(target));
+    }
+
     public void completeDeliveryNote(final int deliveryNoteId, final Integer templateId) {
         completeDocument(RESOURCE, deliveryNoteId, templateId);
     }
@@ -109,6 +257,12 @@ public class DeliveryNoteService extends AbstractService
         return getAllPagesFromResource(RESOURCE_ITEMS, DeliveryNoteItems.class, deliveryNoteIdFilter(deliveryNoteId));
     }
 
+    @Override
+    public CompletableFuture<List<DeliveryNoteItem>> getItemsAsync(final int deliveryNoteId) {
+        return getAllPagesFromResourceAsync(RESOURCE_ITEMS, DeliveryNoteItems.class,
+            deliveryNoteIdFilter(deliveryNoteId));
+    }
+
     private GenericFilter deliveryNoteIdFilter(final Integer deliveryNoteId) {
         return deliveryNoteId == null ? null : new GenericFilter("delivery_note_id", deliveryNoteId);
     }
@@ -123,6 +277,11 @@ public class DeliveryNoteService extends AbstractService
         create(RESOURCE_ITEMS, Validate.notNull(deliveryNoteItem));
     }
 
+    @Override
+    public void createItems(final List<DeliveryNoteItem> deliveryNoteItems) {
+        createAll(RESOURCE_ITEMS, Validate.noNullElements(deliveryNoteItems));
+    }
+
     @Override
     public void updateItem(final DeliveryNoteItem deliveryNoteItem) {
         update(RESOURCE_ITEMS, Validate.notNull(deliveryNoteItem));
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Limits the number of concurrent requests of all tenants and grants permits to waiting tenants
+ * in round-robin order - a tenant sending many requests can't starve the other tenants.
+ */
+final class FairScheduler {
+
+    private final int maxConcurrentRequests;
+    private final Map<String, Deque<CompletableFuture<Void>>> waiters = new HashMap<>();
+    private final Deque<String> rotation = new ArrayDeque<>();
+    private int active;
+
+    FairScheduler(final int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * Requests a permit for the given tenant. The permit has to be returned by {@link #release()}
+     * once the request has been completed. Callers giving up waiting have to cancel the future.
+     *
+     * @param tenantId the tenant to request the permit for
+     * @return the future completing when the permit is granted
+     */
+    synchronized CompletableFuture<Void> acquire(final String tenantId) {
+        if (active < maxConcurrentRequests && rotation.isEmpty()) {
+            active++;
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.computeIfAbsent(tenantId, t -> {
+            rotation.addLast(t);
+            return new ArrayDeque<>();
+        }).addLast(waiter);
+        return waiter;
+    }
+
+    /**
+     * Returns a permit - it is passed on to the next waiting tenant.
+     */
+    void release() {
+        while (true) {
+            final CompletableFuture<Void> next = nextWaiter();
+            // completed outside of the lock, as completing runs the dependent actions of the waiter
+            if (next == null || next.complete(null)) {
+                return;
+            }
+            // the waiter gave up waiting - pass the permit on
+        }
+    }
+
+    private synchronized CompletableFuture<Void> nextWaiter() {
+        final String tenantId = rotation.pollFirst();
+        if (tenantId == null) {
+            active--;
+            return null;
+        }
+
+        final Deque<CompletableFuture<Void>> queue = waiters.get(tenantId);
+        final CompletableFuture<Void> next = queue.pollFirst();
+        if (queue.isEmpty()) {
+            waiters.remove(tenantId);
+        } else {
+            rotation.addLast(tenantId);
+        }
+        return next;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.lang.invoke.MethodHandles;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Provides the Jackson Blackbird module generating property accessors (see
+ * {@link BillomatConfiguration#setGeneratedAccessors(boolean)}). Blackbird is an optional dependency,
+ * so it is only referenced by a nested class that is loaded once the module is actually created.
+ */
+final class GeneratedAccessors {
+
+    private static final String MODULE_CLASS = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    private GeneratedAccessors() {
+    }
+
+    /**
+     * @param classLoader the class loader to look up the Blackbird module with
+     * @return {@code true} if the Blackbird module is available
+     */
+    static boolean isAvailable(final ClassLoader classLoader) {
+        try {
+            Class.forName(MODULE_CLASS, false, classLoader);
+            return true;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if the Blackbird module isn't available
+     */
+    static void checkAvailable() {
+        if (!isAvailable(GeneratedAccessors.class.getClassLoader())) {
+            throw new IllegalStateException("Generated accessors require the Jackson Blackbird module "
+                + "(com.fasterxml.jackson.module:jackson-module-blackbird) - add it to the classpath, or to the "
+                + "module path along with --add-modules com.fasterxml.jackson.module.blackbird");
+        }
+    }
+
+    /**
+     * @return the Blackbird module
+     * @throws IllegalStateException if the Blackbird module isn't available
+     */
+    static Module createModule() {
+        checkAvailable();
+        return Blackbird.createModule();
+    }
+
+    private static final class Blackbird {
+
+        static Module createModule() {
+            // the lookup of this module is used, as the domain packages aren't readable by the Blackbird module
+            return new BlackbirdModule(Blackbird::privateLookup);
+        }
+
+        private static MethodHandles.Lookup privateLookup(final Class<?> clazz) {
+            try {
+                return MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+            } catch (final IllegalAccessException e) {
+                throw new IllegalStateException("No access to " + clazz.getName(), e);
+            }
+        }
+
+    }
+
+}
@@ -21,6 +21,7 @@ package de.siegmar.billomat4j.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import de.siegmar.billomat4j.domain.AbstractItem;
 
@@ -35,6 +36,16 @@ public interface GenericItemService<I extends AbstractItem> {
      */
     List<I> getItems(int ownerId);
 
+    /**
+     * Asynchronous variant of {@link #getItems(int)}.
+     *
+     * @param ownerId
+     *            the id of owning entity
+     * @return the future list of items - completes exceptionally with a {@link ServiceException}
+     *             if an error occurred while accessing the web service
+     */
+    CompletableFuture<List<I>> getItemsAsync(int ownerId);
+
     /**
      * Gets an item by its id.
      *
@@ -56,6 +67,24 @@ public interface GenericItemService<I extends AbstractItem> {
      */
     void createItem(I item);
 
+    /**
+     * Creates multiple items by concurrent requests. The number of concurrent requests is limited by
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}.
+     * <p>
+     * When creating a new document, its items should rather be added to the document itself - they're
+     * created by the same request then.
+     *
+     * @param items
+     *            the items to create, must not be {@code null} or contain {@code null} elements
+     * @throws NullPointerException
+     *             if items is null
+     * @throws IllegalArgumentException
+     *             if items contains {@code null} elements
+     * @throws BulkServiceException
+     *             if one or more items could not be created - all other items were created
+     */
+    void createItems(List<I> items);
+
     /**
      * @param item
      *            the item to update, must not be {@code null}
@@ -19,15 +19,22 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 
 import de.siegmar.billomat4j.domain.Email;
 import de.siegmar.billomat4j.domain.Filter;
+import de.siegmar.billomat4j.domain.LazyRecord;
 import de.siegmar.billomat4j.domain.invoice.Invoice;
 import de.siegmar.billomat4j.domain.invoice.InvoiceActionKey;
 import de.siegmar.billomat4j.domain.invoice.InvoiceComment;
@@ -43,9 +50,12 @@ import de.siegmar.billomat4j.domain.invoice.InvoicePayment;
 import de.siegmar.billomat4j.domain.invoice.InvoicePaymentFilter;
 import de.siegmar.billomat4j.domain.invoice.InvoicePayments;
 import de.siegmar.billomat4j.domain.invoice.InvoicePdf;
+import de.siegmar.billomat4j.domain.invoice.InvoiceSummaries;
+import de.siegmar.billomat4j.domain.invoice.InvoiceSummary;
 import de.siegmar.billomat4j.domain.invoice.InvoiceTag;
 import de.siegmar.billomat4j.domain.invoice.InvoiceTags;
 import de.siegmar.billomat4j.domain.invoice.Invoices;
+import de.siegmar.billomat4j.domain.invoice.LazyInvoices;
 
 public class InvoiceService extends AbstractService
     implements GenericCustomFieldService, GenericTagService<InvoiceTag>,
@@ -84,6 +94,141 @@ public class InvoiceService extends AbstractService
         return getAllPagesFromResource(RESOURCE, Invoices.class, invoiceFilter);
     }
 
+    /**
+     * Counts invoices without fetching them - a single request is sent regardless of the number
+     * of invoices found.
+     *
+     * @param invoiceFilter invoice filter, may be {@code null} to count all invoices
+     * @return the number of invoices found by filter criteria
+     * @throws ServiceException if an error occurred while accessing the web service
+     */
+    public int countInvoices(final InvoiceFilter invoiceFilter) {
+        return countFromResource(RESOURCE, Invoices.class, invoiceFilter);
+    }
+
+    /**
+     * Counts invoices for multiple filters by concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param invoiceFilters invoice filters, elements may be {@code null} to count all invoices
+     * @return the number of invoices per filter - in the same order as the filters
+     * @throws BulkServiceException if one or more counts failed
+     * @see #countInvoices(InvoiceFilter)
+     */
+    public List<Integer> countInvoicesByFilters(final List<InvoiceFilter> invoiceFilters) {
+        return countFromResource(RESOURCE, Invoices.class, Validate.notNull(invoiceFilters));
+    }
+
+    /**
+     * Streams invoices page by page - only a single page of invoices is held in memory at any time.
+     *
+     * @param invoiceFilter invoice filter, may be {@code null} to find unfiltered
+     * @return a lazily populated stream of invoices found by filter criteria - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see #findInvoices(InvoiceFilter)
+     */
+    public Stream<Invoice> streamInvoices(final InvoiceFilter invoiceFilter) {
+        return streamAllPagesFromResource(RESOURCE, Invoices.class, invoiceFilter);
+    }
+
+    /**
+     * Finds invoices like {@link #findInvoices(InvoiceFilter)} but only reads the properties of
+     * {@link InvoiceSummary} - considerably reducing the memory footprint of large lists.
+     *
+     * @param invoiceFilter invoice filter, may be {@code null} to find unfiltered
+     * @return summaries of invoices found by filter criteria or an empty list if no invoices were found -
+     * never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     */
+    public List<InvoiceSummary> findInvoiceSummaries(final InvoiceFilter invoiceFilter) {
+        return getAllPagesFromResource(RESOURCE, InvoiceSummaries.class, invoiceFilter);
+    }
+
+    /**
+     * Streams invoice summaries page by page - only a single page is held in memory at any time.
+     *
+     * @param invoiceFilter invoice filter, may be {@code null} to find unfiltered
+     * @return a lazily populated stream of summaries of invoices found by filter criteria - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see #findInvoiceSummaries(InvoiceFilter)
+     */
+    public Stream<InvoiceSummary> streamInvoiceSummaries(final InvoiceFilter invoiceFilter) {
+        return streamAllPagesFromResource(RESOURCE, InvoiceSummaries.class, invoiceFilter);
+    }
+
+    /**
+     * Streams invoices page by page like {@link #streamInvoices(InvoiceFilter)}, but an invoice is bound
+     * not until it is accessed by {@link LazyRecord#get()}. Filtering invoices by single properties
+     * ({@link LazyRecord#peek(String)}) before processing them is considerably cheaper then. If most of
+     * the invoices are bound anyway, {@link #streamInvoices(InvoiceFilter)} is cheaper (see
+     * {@code LazyRecordBenchmark}).
+     * <pre>{@code
+     * invoiceService.streamInvoicesLazily(filter)
+     *     .filter(r -> r.peek("status").filter("OVERDUE"::equals).isPresent())
+     *     .map(LazyRecord::get)
+     *     .forEach(this::remind);
+     * }</pre>
+     *
+     * @param invoiceFilter invoice filter, may be {@code null} to find unfiltered
+     * @return a lazily populated stream of lazily bound invoices found by filter criteria - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     */
+    public Stream<LazyRecord<Invoice>> streamInvoicesLazily(final InvoiceFilter invoiceFilter) {
+        return streamAllPagesFromResource(RESOURCE, LazyInvoices.class, invoiceFilter);
+    }
+
+    /**
+     * Scans invoices page by page - pages are retried individually and the scan can be continued
+     * later from its cursor.
+     *
+     * @param invoiceFilter invoice filter, may be {@code null} to find unfiltered
+     * @return a scan of invoices found by filter criteria - never {@code null}
+     * @see #resumeInvoiceScan(ScanCursor)
+     */
+    public PagedScan<Invoice> scanInvoices(final InvoiceFilter invoiceFilter) {
+        return scanPagesFromResource(RESOURCE, Invoices.class, invoiceFilter);
+    }
+
+    /**
+     * Continues a scan started by {@link #scanInvoices(InvoiceFilter)}.
+     *
+     * @param cursor the cursor of the scan to continue
+     * @return a scan continuing after the last completed page of the cursor - never {@code null}
+     * @throws IllegalArgumentException if the cursor doesn't belong to a scan of invoices
+     */
+    public PagedScan<Invoice> resumeInvoiceScan(final ScanCursor cursor) {
+        return resumePagedScan(RESOURCE, Invoices.class, cursor);
+    }
+
+    /**
+     * Finds all invoices dated within the given range by scanning date shards concurrently. Suited for
+     * large extracts - the result is not affected by invoices being created while scanning.
+     *
+     * @param invoiceFilter invoice filter, may be {@code null} to find unfiltered - a date range
+     *                      configured by the filter is replaced by the given one
+     * @param from          the first day of the range (inclusive), must not be {@code null}
+     * @param to            the last day of the range (inclusive), must not be {@code null}
+     * @return invoices found by filter criteria, ordered by id - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see BillomatConfiguration#setShardMaxRecords(int)
+     * @see BillomatConfiguration#setShardConcurrency(int)
+     */
+    public List<Invoice> findInvoicesSharded(final InvoiceFilter invoiceFilter, final LocalDate from,
+                                             final LocalDate to) {
+        return getShardedFromResource(RESOURCE, Invoices.class, invoiceFilter, from, to);
+    }
+
+    /**
+     * Asynchronous variant of {@link #findInvoices(InvoiceFilter)}.
+     *
+     * @param invoiceFilter invoice filter, may be {@code null} to find unfiltered
+     * @return the future list of invoices found by filter criteria - completes exceptionally with a
+     * {@link ServiceException} if an error occurred while accessing the web service
+     */
+    public CompletableFuture<List<Invoice>> findInvoicesAsync(final InvoiceFilter invoiceFilter) {
+        return getAllPagesFromResourceAsync(RESOURCE, Invoices.class, invoiceFilter);
+    }
+
     /**
      * @param invoiceGroupFilter the group definition, must not be {@code null}
      * @param invoiceFilter      the filter criteria, optional - may be {@code null}
@@ -110,6 +255,32 @@ public class InvoiceService extends AbstractService
         return getById(RESOURCE, Invoice.class, invoiceId);
     }
 
+    /**
+     * Gets multiple invoices by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param invoiceIds the invoices' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found invoices and the ids of invoices that don't exist
+     * @throws NullPointerException     if invoiceIds is null
+     * @throws IllegalArgumentException if invoiceIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getInvoiceById(int)
+     */
+    public BulkLookupResult<Invoice> getInvoicesByIds(final Collection<Integer> invoiceIds) {
+        return getByIds(RESOURCE, Invoice.class, invoiceIds);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getInvoiceById(int)}.
+     *
+     * @param invoiceId the invoice's id
+     * @return the future invoice - completes exceptionally with a {@link ServiceException} if an error
+     * occurred while accessing the web service
+     */
+    public CompletableFuture<Optional<Invoice>> getInvoiceByIdAsync(final int invoiceId) {
+        return getByIdAsync(RESOURCE, Invoice.class, invoiceId);
+    }
+
     /**
      * Gets a invoice by its invoice number.
      *
@@ -162,6 +333,33 @@ public class InvoiceService extends AbstractService
         return getPdf(RESOURCE, InvoicePdf.class, invoiceId, filter);
     }
 
+    /**
+     * Streams the invoice PDF to the given output stream without buffering the whole document in memory.
+     *
+     * @param invoiceId the id of the invoice to get the PDF for
+     * @param out       the stream to write the PDF to, must not be {@code null} - it is not closed by this method
+     * @return {@code true} if the PDF was written, {@code false} if the invoice was not found
+     * @throws NullPointerException if out is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadInvoicePdf(final int invoiceId, final OutputStream out) {
+        return downloadPdf(RESOURCE, invoiceId, null, Validate.notNull(out));
+    }
+
+    /**
+     * Streams the invoice PDF to the given file without buffering the whole document in memory.
+     * An existing file is only replaced if the PDF was downloaded completely.
+     *
+     * @param invoiceId the id of the invoice to get the PDF for
+     * @param target    the file to write the PDF to, must not be {@code null}
+     * @return {@code true} if the PDF was written, {@code false} if the invoice was not found
+     * @throws NullPointerException if target is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadInvoicePdf(final int invoiceId, final Path target) {
+        return downloadPdf(RESOURCE, invoiceId, null, Validate.notNull(target));
+    }
+
     /**
      * @param invoiceId the id of the invoice to get the signed PDF for
      * @return the signed invoice PDF
@@ -225,6 +423,11 @@ public class InvoiceService extends AbstractService
         return getAllPagesFromResource(RESOURCE_ITEMS, InvoiceItems.class, invoiceIdFilter(invoiceId));
     }
 
+    @Override
+    public CompletableFuture<List<InvoiceItem>> getItemsAsync(final int invoiceId) {
+        return getAllPagesFromResourceAsync(RESOURCE_ITEMS, InvoiceItems.class, invoiceIdFilter(invoiceId));
+    }
+
     private GenericFilter invoiceIdFilter(final Integer invoiceId) {
         return invoiceId == null ? null : new GenericFilter("invoice_id", invoiceId);
     }
@@ -239,6 +442,11 @@ public class InvoiceService extends AbstractService
         create(RESOURCE_ITEMS, Validate.notNull(invoiceItem));
     }
 
+    @Override
+    public void createItems(final List<InvoiceItem> invoiceItems) {
+        createAll(RESOURCE_ITEMS, Validate.noNullElements(invoiceItems));
+    }
+
     @Override
     public void updateItem(final InvoiceItem invoiceItem) {
         update(RESOURCE_ITEMS, Validate.notNull(invoiceItem));
@@ -19,8 +19,14 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 
@@ -74,6 +80,94 @@ public class OfferService extends AbstractService implements GenericCustomFieldS
         return getAllPagesFromResource(RESOURCE, Offers.class, offerFilter);
     }
 
+    /**
+     * Counts offers without fetching them - a single request is sent regardless of the number
+     * of offers found.
+     *
+     * @param offerFilter offer filter, may be {@code null} to count all offers
+     * @return the number of offers found by filter criteria
+     * @throws ServiceException if an error occurred while accessing the web service
+     */
+    public int countOffers(final OfferFilter offerFilter) {
+        return countFromResource(RESOURCE, Offers.class, offerFilter);
+    }
+
+    /**
+     * Counts offers for multiple filters by concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param offerFilters offer filters, elements may be {@code null} to count all offers
+     * @return the number of offers per filter - in the same order as the filters
+     * @throws BulkServiceException if one or more counts failed
+     * @see #countOffers(OfferFilter)
+     */
+    public List<Integer> countOffersByFilters(final List<OfferFilter> offerFilters) {
+        return countFromResource(RESOURCE, Offers.class, Validate.notNull(offerFilters));
+    }
+
+    /**
+     * Streams offers page by page - only a single page of offers is held in memory at any time.
+     *
+     * @param offerFilter offer filter, may be {@code null} to find unfiltered
+     * @return a lazily populated stream of offers found by filter criteria - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see #findOffers(OfferFilter)
+     */
+    public Stream<Offer> streamOffers(final OfferFilter offerFilter) {
+        return streamAllPagesFromResource(RESOURCE, Offers.class, offerFilter);
+    }
+
+    /**
+     * Scans offers page by page - pages are retried individually and the scan can be continued
+     * later from its cursor.
+     *
+     * @param offerFilter offer filter, may be {@code null} to find unfiltered
+     * @return a scan of offers found by filter criteria - never {@code null}
+     * @see #resumeOfferScan(ScanCursor)
+     */
+    public PagedScan<Offer> scanOffers(final OfferFilter offerFilter) {
+        return scanPagesFromResource(RESOURCE, Offers.class, offerFilter);
+    }
+
+    /**
+     * Continues a scan started by {@link #scanOffers(OfferFilter)}.
+     *
+     * @param cursor the cursor of the scan to continue
+     * @return a scan continuing after the last completed page of the cursor - never {@code null}
+     * @throws IllegalArgumentException if the cursor doesn't belong to a scan of offers
+     */
+    public PagedScan<Offer> resumeOfferScan(final ScanCursor cursor) {
+        return resumePagedScan(RESOURCE, Offers.class, cursor);
+    }
+
+    /**
+     * Finds all offers dated within the given range by scanning date shards concurrently. Suited for
+     * large extracts - the result is not affected by offers being created while scanning.
+     *
+     * @param offerFilter offer filter, may be {@code null} to find unfiltered - a date range
+     *                    configured by the filter is replaced by the given one
+     * @param from        the first day of the range (inclusive), must not be {@code null}
+     * @param to          the last day of the range (inclusive), must not be {@code null}
+     * @return offers found by filter criteria, ordered by id - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see BillomatConfiguration#setShardMaxRecords(int)
+     * @see BillomatConfiguration#setShardConcurrency(int)
+     */
+    public List<Offer> findOffersSharded(final OfferFilter offerFilter, final LocalDate from, final LocalDate to) {
+        return getShardedFromResource(RESOURCE, Offers.class, offerFilter, from, to);
+    }
+
+    /**
+     * Asynchronous variant of {@link #findOffers(OfferFilter)}.
+     *
+     * @param offerFilter offer filter, may be {@code null} to find unfiltered
+     * @return the future list of offers found by filter criteria - completes exceptionally with a
+     * {@link ServiceException} if an error occurred while accessing the web service
+     */
+    public CompletableFuture<List<Offer>> findOffersAsync(final OfferFilter offerFilter) {
+        return getAllPagesFromResourceAsync(RESOURCE, Offers.class, offerFilter);
+    }
+
     /**
      * Gets a offer by its id.
      *
@@ -85,6 +179,32 @@ public class OfferService extends AbstractService implements GenericCustomFieldS
         return getById(RESOURCE, Offer.class, offerId);
     }
 
+    /**
+     * Gets multiple offers by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param offerIds the offers' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found offers and the ids of offers that don't exist
+     * @throws NullPointerException     if offerIds is null
+     * @throws IllegalArgumentException if offerIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getOfferById(int)
+     */
+    public BulkLookupResult<Offer> getOffersByIds(final Collection<Integer> offerIds) {
+        return getByIds(RESOURCE, Offer.class, offerIds);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getOfferById(int)}.
+     *
+     * @param offerId the offer's id
+     * @return the future offer - completes exceptionally with a {@link ServiceException} if an error
+     * occurred while accessing the web service
+     */
+    public CompletableFuture<Optional<Offer>> getOfferByIdAsync(final int offerId) {
+        return getByIdAsync(RESOURCE, Offer.class, offerId);
+    }
+
     /**
      * Gets a offer by its offer number.
      *
@@ -133,6 +253,33 @@ public class OfferService extends AbstractService implements GenericCustomFieldS
         return getPdf(RESOURCE, OfferPdf.class, offerId, null);
     }
 
+    /**
+     * Streams the offer PDF to the given output stream without buffering the whole document in memory.
+     *
+     * @param offerId the id of the offer to get the PDF for
+     * @param out     the stream to write the PDF to, must not be {@code null} - it is not closed by this method
+     * @return {@code true} if the PDF was written, {@code false} if the offer was not found
+     * @throws NullPointerException if out is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadOfferPdf(final int offerId, final OutputStream out) {
+        return downloadPdf(RESOURCE, offerId, null, Validate.notNull(out));
+    }
+
+    /**
+     * Streams the offer PDF to the given file without buffering the whole document in memory.
+     * An existing file is only replaced if the PDF was downloaded completely.
+     *
+     * @param offerId the id of the offer to get the PDF for
+     * @param target  the file to write the PDF to, must not be {@code null}
+     * @return {@code true} if the PDF was written, {@code false} if the offer was not found
+     * @throws NullPointerException if target is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadOfferPdf(final int offerId, final Path target) {
+        return downloadPdf(RESOURCE, offerId, null, Validate.notNull(target));
+    }
+
     /**
      * Sets the offer status to {@link de.siegmar.billomat4j.domain.offer.OfferStatus#OPEN}.
      *
@@ -212,6 +359,11 @@ public class OfferService extends AbstractService implements GenericCustomFieldS
         return getAllPagesFromResource(RESOURCE_ITEMS, OfferItems.class, offerIdFilter(offerId));
     }
 
+    @Override
+    public CompletableFuture<List<OfferItem>> getItemsAsync(final int offerId) {
+        return getAllPagesFromResourceAsync(RESOURCE_ITEMS, OfferItems.class, offerIdFilter(offerId));
+    }
+
     private GenericFilter offerIdFilter(final Integer offerId) {
         return offerId == null ? null : new GenericFilter("offer_id", offerId);
     }
@@ -226,6 +378,11 @@ public class OfferService extends AbstractService implements GenericCustomFieldS
         create(RESOURCE_ITEMS, Validate.notNull(offerItem));
     }
 
+    @Override
+    public void createItems(final List<OfferItem> offerItems) {
+        createAll(RESOURCE_ITEMS, Validate.noNullElements(offerItems));
+    }
+
     @Override
     public void updateItem(final OfferItem offerItem) {
         update(RESOURCE_ITEMS, Validate.notNull(offerItem));
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import de.siegmar.billomat4j.Pager;
+import de.siegmar.billomat4j.domain.Pageable;
+
+/**
+ * Scans the records of a resource page by page. Unlike {@code find*} methods, a failing page does
+ * not discard the pages already fetched - each page is retried individually and the scan can be
+ * continued from its {@link #getCursor() cursor}, even by another process.
+ * <pre>{@code
+ * PagedScan<Invoice> scan = cursor == null
+ *     ? invoiceService.scanInvoices(filter)
+ *     : invoiceService.resumeInvoiceScan(cursor);
+ * while (scan.hasNextPage()) {
+ *     export(scan.nextPage());
+ *     cursor = scan.getCursor(); // persist the cursor after the page has been processed
+ * }
+ * }</pre>
+ * Records created or deleted while scanning shift the following records to other pages - records
+ * may be returned twice or skipped then.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @param <E> the type of the records
+ * @see BillomatConfiguration#setPageRetries(int)
+ */
+public final class PagedScan<E> {
+
+    private final Pager<? extends Pageable<E>, E> pager;
+    private ScanCursor cursor;
+
+    PagedScan(final Pager<? extends Pageable<E>, E> pager, final ScanCursor cursor) {
+        this.pager = pager;
+        this.cursor = cursor;
+    }
+
+    public boolean hasNextPage() {
+        return !cursor.isCompleted();
+    }
+
+    /**
+     * Fetches the page following the last completed page and advances the cursor.
+     *
+     * @return the records of the page - may be empty if the scan turned out to be completed
+     * @throws NoSuchElementException if the scan is already completed
+     * @throws ServiceException       if the page could not be fetched - the cursor is not advanced
+     *                                then, so the page is fetched again by the next call
+     */
+    public List<E> nextPage() {
+        if (!hasNextPage()) {
+            throw new NoSuchElementException("Scan already completed");
+        }
+
+        final int page = cursor.getLastCompletedPage() + 1;
+        final Pageable<E> recordWrapper = pager.getPage(cursor.getResource(), cursor.getParams(), page);
+        if (recordWrapper == null || recordWrapper.getEntries().isEmpty()) {
+            cursor = cursor.advance(page - 1, true);
+            return new ArrayList<>();
+        }
+
+        final long fetched = (long) page * recordWrapper.getPerPage();
+        cursor = cursor.advance(page, fetched >= recordWrapper.getTotal());
+        return recordWrapper.getEntries();
+    }
+
+    /**
+     * @return the cursor pointing to the last completed page
+     */
+    public ScanCursor getCursor() {
+        return cursor;
+    }
+
+}
@@ -19,8 +19,11 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 
@@ -69,6 +72,77 @@ public class RecurringService extends AbstractService
         return getAllPagesFromResource(RESOURCE, Recurrings.class, recurringFilter);
     }
 
+    /**
+     * Counts recurrings without fetching them - a single request is sent regardless of the number
+     * of recurrings found.
+     *
+     * @param recurringFilter recurring filter, may be {@code null} to count all recurrings
+     * @return the number of recurrings found by filter criteria
+     * @throws ServiceException if an error occurred while accessing the web service
+     */
+    public int countRecurrings(final RecurringFilter recurringFilter) {
+        return countFromResource(RESOURCE, Recurrings.class, recurringFilter);
+    }
+
+    /**
+     * Counts recurrings for multiple filters by concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param recurringFilters recurring filters, elements may be {@code null} to count all recurrings
+     * @return the number of recurrings per filter - in the same order as the filters
+     * @throws BulkServiceException if one or more counts failed
+     * @see #countRecurrings(RecurringFilter)
+     */
+    public List<Integer> countRecurringsByFilters(final List<RecurringFilter> recurringFilters) {
+        return countFromResource(RESOURCE, Recurrings.class, Validate.notNull(recurringFilters));
+    }
+
+    /**
+     * Streams recurrings page by page - only a single page of recurrings is held in memory at any time.
+     *
+     * @param recurringFilter recurring filter, may be {@code null} to find unfiltered
+     * @return a lazily populated stream of recurrings found by filter criteria - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see #findRecurrings(RecurringFilter)
+     */
+    public Stream<Recurring> streamRecurrings(final RecurringFilter recurringFilter) {
+        return streamAllPagesFromResource(RESOURCE, Recurrings.class, recurringFilter);
+    }
+
+    /**
+     * Scans recurrings page by page - pages are retried individually and the scan can be continued
+     * later from its cursor.
+     *
+     * @param recurringFilter recurring filter, may be {@code null} to find unfiltered
+     * @return a scan of recurrings found by filter criteria - never {@code null}
+     * @see #resumeRecurringScan(ScanCursor)
+     */
+    public PagedScan<Recurring> scanRecurrings(final RecurringFilter recurringFilter) {
+        return scanPagesFromResource(RESOURCE, Recurrings.class, recurringFilter);
+    }
+
+    /**
+     * Continues a scan started by {@link #scanRecurrings(RecurringFilter)}.
+     *
+     * @param cursor the cursor of the scan to continue
+     * @return a scan continuing after the last completed page of the cursor - never {@code null}
+     * @throws IllegalArgumentException if the cursor doesn't belong to a scan of recurrings
+     */
+    public PagedScan<Recurring> resumeRecurringScan(final ScanCursor cursor) {
+        return resumePagedScan(RESOURCE, Recurrings.class, cursor);
+    }
+
+    /**
+     * Asynchronous variant of {@link #findRecurrings(RecurringFilter)}.
+     *
+     * @param recurringFilter recurring filter, may be {@code null} to find unfiltered
+     * @return the future list of recurrings found by filter criteria - completes exceptionally with a
+     * {@link ServiceException} if an error occurred while accessing the web service
+     */
+    public CompletableFuture<List<Recurring>> findRecurringsAsync(final RecurringFilter recurringFilter) {
+        return getAllPagesFromResourceAsync(RESOURCE, Recurrings.class, recurringFilter);
+    }
+
     /**
      * Gets a recurring by its id.
      *
@@ -80,6 +154,32 @@ public class RecurringService extends AbstractService
         return getById(RESOURCE, Recurring.class, recurringId);
     }
 
+    /**
+     * Gets multiple recurrings by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param recurringIds the recurrings' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found recurrings and the ids of recurrings that don't exist
+     * @throws NullPointerException     if recurringIds is null
+     * @throws IllegalArgumentException if recurringIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getRecurringById(int)
+     */
+    public BulkLookupResult<Recurring> getRecurringsByIds(final Collection<Integer> recurringIds) {
+        return getByIds(RESOURCE, Recurring.class, recurringIds);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getRecurringById(int)}.
+     *
+     * @param recurringId the recurring's id
+     * @return the future recurring - completes exceptionally with a {@link ServiceException} if an error
+     * occurred while accessing the web service
+     */
+    public CompletableFuture<Optional<Recurring>> getRecurringByIdAsync(final int recurringId) {
+        return getByIdAsync(RESOURCE, Recurring.class, recurringId);
+    }
+
     /**
      * @param recurring the recurring to create, must not be {@code null}
      * @throws NullPointerException if recurring is null
@@ -113,6 +213,11 @@ public class RecurringService extends AbstractService
         return getAllPagesFromResource(RESOURCE_ITEMS, RecurringItems.class, recurringIdFilter(recurringId));
     }
 
+    @Override
+    public CompletableFuture<List<RecurringItem>> getItemsAsync(final int recurringId) {
+        return getAllPagesFromResourceAsync(RESOURCE_ITEMS, RecurringItems.class, recurringIdFilter(recurringId));
+    }
+
     private GenericFilter recurringIdFilter(final Integer recurringId) {
         return recurringId == null ? null : new GenericFilter("recurring_id", recurringId);
     }
@@ -127,6 +232,11 @@ public class RecurringService extends AbstractService
         create(RESOURCE_ITEMS, Validate.notNull(recurringItem));
     }
 
+    @Override
+    public void createItems(final List<RecurringItem> recurringItems) {
+        createAll(RESOURCE_ITEMS, Validate.noNullElements(recurringItems));
+    }
+
     @Override
     public void updateItem(final RecurringItem recurringItem) {
         update(RESOURCE_ITEMS, Validate.notNull(recurringItem));
@@ -19,10 +19,16 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.Validate;
 
@@ -70,6 +76,95 @@ public class ReminderService extends AbstractService
         return getAllPagesFromResource(RESOURCE, Reminders.class, reminderFilter);
     }
 
+    /**
+     * Counts reminders without fetching them - a single request is sent regardless of the number
+     * of reminders found.
+     *
+     * @param reminderFilter reminder filter, may be {@code null} to count all reminders
+     * @return the number of reminders found by filter criteria
+     * @throws ServiceException if an error occurred while accessing the web service
+     */
+    public int countReminders(final ReminderFilter reminderFilter) {
+        return countFromResource(RESOURCE, Reminders.class, reminderFilter);
+    }
+
+    /**
+     * Counts reminders for multiple filters by concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param reminderFilters reminder filters, elements may be {@code null} to count all reminders
+     * @return the number of reminders per filter - in the same order as the filters
+     * @throws BulkServiceException if one or more counts failed
+     * @see #countReminders(ReminderFilter)
+     */
+    public List<Integer> countRemindersByFilters(final List<ReminderFilter> reminderFilters) {
+        return countFromResource(RESOURCE, Reminders.class, Validate.notNull(reminderFilters));
+    }
+
+    /**
+     * Streams reminders page by page - only a single page of reminders is held in memory at any time.
+     *
+     * @param reminderFilter reminder filter, may be {@code null} to find unfiltered
+     * @return a lazily populated stream of reminders found by filter criteria - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see #findReminders(ReminderFilter)
+     */
+    public Stream<Reminder> streamReminders(final ReminderFilter reminderFilter) {
+        return streamAllPagesFromResource(RESOURCE, Reminders.class, reminderFilter);
+    }
+
+    /**
+     * Scans reminders page by page - pages are retried individually and the scan can be continued
+     * later from its cursor.
+     *
+     * @param reminderFilter reminder filter, may be {@code null} to find unfiltered
+     * @return a scan of reminders found by filter criteria - never {@code null}
+     * @see #resumeReminderScan(ScanCursor)
+     */
+    public PagedScan<Reminder> scanReminders(final ReminderFilter reminderFilter) {
+        return scanPagesFromResource(RESOURCE, Reminders.class, reminderFilter);
+    }
+
+    /**
+     * Continues a scan started by {@link #scanReminders(ReminderFilter)}.
+     *
+     * @param cursor the cursor of the scan to continue
+     * @return a scan continuing after the last completed page of the cursor - never {@code null}
+     * @throws IllegalArgumentException if the cursor doesn't belong to a scan of reminders
+     */
+    public PagedScan<Reminder> resumeReminderScan(final ScanCursor cursor) {
+        return resumePagedScan(RESOURCE, Reminders.class, cursor);
+    }
+
+    /**
+     * Finds all reminders dated within the given range by scanning date shards concurrently. Suited for
+     * large extracts - the result is not affected by reminders being created while scanning.
+     *
+     * @param reminderFilter reminder filter, may be {@code null} to find unfiltered - a date range
+     *                       configured by the filter is replaced by the given one
+     * @param from           the first day of the range (inclusive), must not be {@code null}
+     * @param to             the last day of the range (inclusive), must not be {@code null}
+     * @return reminders found by filter criteria, ordered by id - never {@code null}
+     * @throws ServiceException if an error occurred while accessing the web service
+     * @see BillomatConfiguration#setShardMaxRecords(int)
+     * @see BillomatConfiguration#setShardConcurrency(int)
+     */
+    public List<Reminder> findRemindersSharded(final ReminderFilter reminderFilter, final LocalDate from,
+                                               final LocalDate to) {
+        return getShardedFromResource(RESOURCE, Reminders.class, reminderFilter, from, to);
+    }
+
+    /**
+     * Asynchronous variant of {@link #findReminders(ReminderFilter)}.
+     *
+     * @param reminderFilter reminder filter, may be {@code null} to find unfiltered
+     * @return the future list of reminders found by filter criteria - completes exceptionally with a
+     * {@link ServiceException} if an error occurred while accessing the web service
+     */
+    public CompletableFuture<List<Reminder>> findRemindersAsync(final ReminderFilter reminderFilter) {
+        return getAllPagesFromResourceAsync(RESOURCE, Reminders.class, reminderFilter);
+    }
+
     /**
      * Gets a reminder by its id.
      *
@@ -81,6 +176,32 @@ public class ReminderService extends AbstractService
         return getById(RESOURCE, Reminder.class, reminderId);
     }
 
+    /**
+     * Gets multiple reminders by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param reminderIds the reminders' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found reminders and the ids of reminders that don't exist
+     * @throws NullPointerException     if reminderIds is null
+     * @throws IllegalArgumentException if reminderIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getReminderById(int)
+     */
+    public BulkLookupResult<Reminder> getRemindersByIds(final Collection<Integer> reminderIds) {
+        return getByIds(RESOURCE, Reminder.class, reminderIds);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getReminderById(int)}.
+     *
+     * @param reminderId the reminder's id
+     * @return the future reminder - completes exceptionally with a {@link ServiceException} if an error
+     * occurred while accessing the web service
+     */
+    public CompletableFuture<Optional<Reminder>> getReminderByIdAsync(final int reminderId) {
+        return getByIdAsync(RESOURCE, Reminder.class, reminderId);
+    }
+
     /**
      * @param reminder the reminder to create, must not be {@code null}
      * @throws NullPointerException if reminder is null
@@ -120,6 +241,33 @@ public class ReminderService extends AbstractService
         return getPdf(RESOURCE, ReminderPdf.class, reminderId, filter);
     }
 
+    /**
+     * Streams the reminder PDF to the given output stream without buffering the whole document in memory.
+     *
+     * @param reminderId the id of the reminder to get the PDF for
+     * @param out        the stream to write the PDF to, must not be {@code null} - it is not closed by this method
+     * @return {@code true} if the PDF was written, {@code false} if the reminder was not found
+     * @throws NullPointerException if out is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadReminderPdf(final int reminderId, final OutputStream out) {
+        return downloadPdf(RESOURCE, reminderId, null, Validate.notNull(out));
+    }
+
+    /**
+     * Streams the reminder PDF to the given file without buffering the whole document in memory.
+     * An existing file is only replaced if the PDF was downloaded completely.
+     *
+     * @param reminderId the id of the reminder to get the PDF for
+     * @param target     the file to write the PDF to, must not be {@code null}
+     * @return {@code true} if the PDF was written, {@code false} if the reminder was not found
+     * @throws NullPointerException if target is null
+     * @throws ServiceException     if an error occurred while accessing the web service
+     */
+    public boolean downloadReminderPdf(final int reminderId, final Path target) {
+        return downloadPdf(RESOURCE, reminderId, null, Validate.notNull(target));
+    }
+
     /**
      * @param reminderId the id of the reminder to get the signed PDF for
      * @return the signed reminder PDF
@@ -183,6 +331,11 @@ public class ReminderService extends AbstractService
         return getAllPagesFromResource(RESOURCE_ITEMS, ReminderItems.class, reminderIdFilter(reminderId));
     }
 
+    @Override
+    public CompletableFuture<List<ReminderItem>> getItemsAsync(final int reminderId) {
+        return getAllPagesFromResourceAsync(RESOURCE_ITEMS, ReminderItems.class, reminderIdFilter(reminderId));
+    }
+
     private GenericFilter reminderIdFilter(final Integer reminderId) {
         return reminderId == null ? null : new GenericFilter("reminder_id", reminderId);
     }
@@ -197,6 +350,11 @@ public class ReminderService extends AbstractService
         create(RESOURCE_ITEMS, Validate.notNull(reminderItem));
     }
 
+    @Override
+    public void createItems(final List<ReminderItem> reminderItems) {
+        createAll(RESOURCE_ITEMS, Validate.noNullElements(reminderItems));
+    }
+
     @Override
     public void updateItem(final ReminderItem reminderItem) {
         update(RESOURCE_ITEMS, Validate.notNull(reminderItem));
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The position of a {@link PagedScan} - the resource and filter to scan, the page size and the last
+ * completed page. Cursors are immutable and {@link Serializable}, so they can be persisted to
+ * continue a scan later (e.g. after a crash).
+ */
+public final class ScanCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String resource;
+    private final Map<String, String> params;
+    private final int pageSize;
+    private final int lastCompletedPage;
+    private final boolean completed;
+
+    ScanCursor(final String resource, final Map<String, String> params, final int pageSize,
+               final int lastCompletedPage, final boolean completed) {
+        this.resource = resource;
+        this.params = Collections.unmodifiableMap(new LinkedHashMap<>(params));
+        this.pageSize = pageSize;
+        this.lastCompletedPage = lastCompletedPage;
+        this.completed = completed;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * @return the request parameters (filter criteria and page size) of the scan
+     */
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return the number of the last completed page (1-based) or {@code 0} if no page has been
+     * completed yet
+     */
+    public int getLastCompletedPage() {
+        return lastCompletedPage;
+    }
+
+    /**
+     * @return {@code true} if all pages have been completed
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    ScanCursor advance(final int page, final boolean lastPage) {
+        return new ScanCursor(resource, params, pageSize, page, lastPage);
+    }
+
+    @Override
+    public String toString() {
+        return "ScanCursor [resource=" + resource + ", params=" + params + ", pageSize=" + pageSize
+            + ", lastCompletedPage=" + lastCompletedPage + ", completed=" + completed + "]";
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+/**
+ * Thrown if the web service responded with an error status code.
+ */
+public class ServiceResponseException extends ServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+
+    public ServiceResponseException(final int statusCode, final String data) {
+        super("Service error response: code=" + statusCode + ", data=" + data);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Creates a copy of the given exception with the same message and status code - e.g. for
+     * rethrowing it in another thread.
+     *
+     * @param cause the exception to copy, set as the cause of the copy
+     */
+    public ServiceResponseException(final ServiceResponseException cause) {
+        super(cause.getMessage(), cause);
+        this.statusCode = cause.statusCode;
+    }
+
+    /**
+     * @return the HTTP status code of the response
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+}
@@ -55,7 +55,7 @@ public class SettingsService extends AbstractService {
     public Settings getSettings() {
         try {
             final byte[] data = requestHelper.get(RESOURCE, null, null, null);
-            return objectReader.forType(Settings.class).readValue(data);
+            return requestHelper.decode(RESOURCE, codecs.readerFor(Settings.class), data);
         } catch (final IOException e) {
             throw new ServiceException(e);
         }
@@ -68,9 +68,9 @@ public class SettingsService extends AbstractService {
      */
     public void updateSettings(final Settings settings) {
         try {
-            final byte[] requestData = objectWriter.writeValueAsBytes(Validate.notNull(settings));
+            final byte[] requestData = codecs.write(Validate.notNull(settings));
             final byte[] responseData = requestHelper.put(RESOURCE, null, null, requestData);
-            objectReader.forType(Settings.class).withValueToUpdate(settings).readValue(responseData);
+            requestHelper.decode(RESOURCE, codecs.updaterFor(settings), responseData);
         } catch (final IOException e) {
             throw new ServiceException(e);
         }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.siegmar.billomat4j.BoundedExecutor;
+import de.siegmar.billomat4j.Pager;
+import de.siegmar.billomat4j.domain.Identifiable;
+import de.siegmar.billomat4j.domain.Pageable;
+
+/**
+ * Scans a date range of documents by splitting it into shards (sub-ranges, requested via the
+ * {@code from} and {@code to} filter parameters) that are scanned concurrently.
+ * <p>
+ * Shards containing more than {@code maxShardRecords} records are split in halves until they
+ * either fit or cover a single day. Unlike page-parallel fetching, shards don't depend on a stable
+ * total - records created while scanning only affect the shard they're dated in. Records
+ * (re)dated while scanning may be fetched by two shards - they're deduplicated by id.
+ *
+ * @param <T> the type of the record wrapper
+ * @param <E> the type of the records
+ */
+final class ShardedScan<T extends Pageable<E>, E extends Identifiable> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardedScan.class);
+
+    private final Pager<T, E> pager;
+    private final String resource;
+    private final Map<String, String> params;
+    private final int maxShardRecords;
+    private final int concurrency;
+    private final Executor executor;
+
+    private final ConcurrentMap<Integer, E> records = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingShards = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    /**
+     * @param pager           the pager to fetch the pages of a shard with
+     * @param resource        the resource to scan
+     * @param params          the request parameters (see {@link Pager#buildParams})
+     * @param maxShardRecords the maximum number of records of a shard before it is split
+     * @param concurrency     the number of concurrently scanned shards
+     * @param executor        the executor to scan the shards with
+     */
+    ShardedScan(final Pager<T, E> pager, final String resource, final Map<String, String> params,
+                final int maxShardRecords, final int concurrency, final Executor executor) {
+        this.pager = pager;
+        this.resource = resource;
+        this.params = params;
+        this.maxShardRecords = maxShardRecords;
+        this.concurrency = concurrency;
+        this.executor = new BoundedExecutor(executor, concurrency);
+    }
+
+    /**
+     * Scans all records dated within the given range.
+     *
+     * @param from the first day of the range (inclusive)
+     * @param to   the last day of the range (inclusive)
+     * @return the records, ordered by id
+     */
+    List<E> scan(final LocalDate from, final LocalDate to) {
+        // start with as many shards as are scanned concurrently - they're split further if they turn out
+        // to be too large; the scan itself counts as pending until all initial shards are submitted
+        pendingShards.incrementAndGet();
+        final long days = ChronoUnit.DAYS.between(from, to) + 1;
+        final int initialShards = (int) Math.min(concurrency, days);
+        LocalDate shardFrom = from;
+        for (int i = 1; i <= initialShards; i++) {
+            final LocalDate shardTo = i == initialShards ? to : from.plusDays(days * i / initialShards - 1);
+            submit(shardFrom, shardTo);
+            shardFrom = shardTo.plusDays(1);
+        }
+        shardDone();
+
+        await();
+
+        final List<E> result = new ArrayList<>(records.values());
+        result.sort(Comparator.comparing(Identifiable::getId));
+        LOG.debug("Fetched {} record(s) dated from {} to {}", result.size(), from, to);
+        return result;
+    }
+
+    private void submit(final LocalDate from, final LocalDate to) {
+        pendingShards.incrementAndGet();
+        CompletableFuture.runAsync(() -> scanShard(from, to), executor)
+            .whenComplete((v, ex) -> {
+                if (ex != null) {
+                    failure.compareAndSet(null, ex instanceof CompletionException ? ex.getCause() : ex);
+                }
+                shardDone();
+            });
+    }
+
+    private void shardDone() {
+        // the scan completes once all shards finished - even if one failed, so no request outlives it
+        if (pendingShards.decrementAndGet() == 0) {
+            completion.complete(null);
+        }
+    }
+
+    private void scanShard(final LocalDate from, final LocalDate to) {
+        if (failure.get() != null) {
+            // another shard failed - don't waste any further requests
+            return;
+        }
+
+        final Map<String, String> shardParams = new HashMap<>(params);
+        shardParams.put("from", DateTimeFormatter.ISO_DATE.format(from));
+        shardParams.put("to", DateTimeFormatter.ISO_DATE.format(to));
+
+        final T firstPage = pager.getPage(resource, shardParams, 1);
+        if (firstPage == null || firstPage.getTotal() == 0) {
+            return;
+        }
+
+        if (firstPage.getTotal() > maxShardRecords && from.isBefore(to)) {
+            final LocalDate middle = from.plusDays(ChronoUnit.DAYS.between(from, to) / 2);
+            LOG.debug("Split shard {} to {} with {} records", from, to, firstPage.getTotal());
+            submit(from, middle);
+            submit(middle.plusDays(1), to);
+            return;
+        }
+
+        add(firstPage);
+        final int pages = (firstPage.getTotal() + firstPage.getPerPage() - 1) / firstPage.getPerPage();
+        for (int page = 2; page <= pages && failure.get() == null; page++) {
+            final T recordWrapper = pager.getPage(resource, shardParams, page);
+            if (recordWrapper == null || recordWrapper.getEntries().isEmpty()) {
+                break;
+            }
+            add(recordWrapper);
+        }
+    }
+
+    private void add(final T recordWrapper) {
+        for (final E entry : recordWrapper.getEntries()) {
+            records.put(entry.getId(), entry);
+        }
+    }
+
+    private void await() {
+        completion.join();
+
+        final Throwable cause = failure.get();
+        if (cause instanceof ServiceException) {
+            throw (ServiceException) cause;
+        }
+        if (cause != null) {
+            throw new CompletionException(cause);
+        }
+    }
+
+}
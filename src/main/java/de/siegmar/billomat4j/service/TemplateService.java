@@ -20,6 +20,7 @@
 package de.siegmar.billomat4j.service;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -70,6 +71,21 @@ public class TemplateService extends AbstractService implements GenericCustomFie
         return getById(RESOURCE, Template.class, templateId);
     }
 
+    /**
+     * Gets multiple templates by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param templateIds the templates' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found templates and the ids of templates that don't exist
+     * @throws NullPointerException     if templateIds is null
+     * @throws IllegalArgumentException if templateIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getTemplateById(int)
+     */
+    public BulkLookupResult<Template> getTemplatesByIds(final Collection<Integer> templateIds) {
+        return getByIds(RESOURCE, Template.class, templateIds);
+    }
+
     /**
      * @param template the template to create, must not be {@code null}
      * @throws NullPointerException if template is null
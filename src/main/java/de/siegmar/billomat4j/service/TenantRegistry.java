@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.Validate;
+
+import de.siegmar.billomat4j.transport.HttpTransport;
+import de.siegmar.billomat4j.transport.JdkHttpTransport;
+
+/**
+ * Manages the configurations of multiple Billomat accounts (tenants) within one application.
+ * <p>
+ * All tenants share the HTTP transport (and thus its connection pool) and the JSON readers and writers
+ * of the template configuration. The number of concurrent requests of all tenants is limited - permits
+ * are granted to waiting tenants in round-robin order, so a busy tenant can't starve the others.
+ * The rate budget of a tenant is configured via {@link BillomatConfiguration#setMaxRequestsPerSecond(double)}
+ * on the configuration returned by {@link #register(String, String, String)}.
+ */
+public final class TenantRegistry {
+
+    private final BillomatConfiguration template;
+    private final HttpTransport sharedTransport;
+    private final FairScheduler scheduler;
+    private final ConcurrentMap<String, BillomatConfiguration> tenants = new ConcurrentHashMap<>();
+
+    /**
+     * @param template              the configuration the settings of all tenants are copied from -
+     *                              its credentials are ignored
+     * @param maxConcurrentRequests the maximum number of concurrent requests of all tenants
+     */
+    public TenantRegistry(final BillomatConfiguration template, final int maxConcurrentRequests) {
+        Validate.notNull(template, "template must not be null");
+        Validate.isTrue(maxConcurrentRequests >= 1, "maxConcurrentRequests must be >= 1");
+        this.template = template;
+        sharedTransport = template.getHttpTransport() != null
+            ? template.getHttpTransport()
+            : new JdkHttpTransport(template.getConnectTimeout());
+        scheduler = new FairScheduler(maxConcurrentRequests);
+        template.initCodecs();
+    }
+
+    /**
+     * Registers a tenant. The returned configuration carries the settings of the template and may be
+     * adjusted (e.g. its rate budget) before it is used for creating services. Settings affecting the
+     * JSON readers and writers (e.g. {@link BillomatConfiguration#setIgnoreUnknownProperties(boolean)})
+     * are taken from the template.
+     *
+     * @param tenantId   the id of the tenant within this registry
+     * @param billomatId the Billomat id of the tenant
+     * @param apiKey     the API key of the tenant
+     * @return the configuration of the tenant
+     * @throws IllegalArgumentException if a tenant with the given id is already registered
+     */
+    public BillomatConfiguration register(final String tenantId, final String billomatId, final String apiKey) {
+        Validate.notNull(tenantId, "tenantId must not be null");
+
+        final BillomatConfiguration configuration = template.copySettings();
+        configuration.setBillomatId(billomatId);
+        configuration.setApiKey(apiKey);
+        configuration.setHttpTransport(new TenantTransport(tenantId, sharedTransport, scheduler));
+
+        Validate.isTrue(tenants.putIfAbsent(tenantId, configuration) == null,
+            "Tenant %s is already registered", tenantId);
+
+        return configuration;
+    }
+
+    /**
+     * @param tenantId the id of the tenant
+     * @return the configuration of the tenant - empty if no such tenant is registered
+     */
+    public Optional<BillomatConfiguration> getConfiguration(final String tenantId) {
+        return Optional.ofNullable(tenants.get(tenantId));
+    }
+
+    /**
+     * Removes a tenant. Services created for the tenant remain usable until they're discarded.
+     *
+     * @param tenantId the id of the tenant
+     * @return {@code true} if the tenant was registered
+     */
+    public boolean unregister(final String tenantId) {
+        return tenants.remove(tenantId) != null;
+    }
+
+    /**
+     * @return the ids of all registered tenants
+     */
+    public Set<String> getTenantIds() {
+        return Collections.unmodifiableSet(tenants.keySet());
+    }
+
+}
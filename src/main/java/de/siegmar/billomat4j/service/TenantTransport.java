@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import de.siegmar.billomat4j.transport.HttpTransport;
+import de.siegmar.billomat4j.transport.TransportRequest;
+import de.siegmar.billomat4j.transport.TransportResponse;
+
+/**
+ * The transport of a single tenant - sends requests via the transport shared by all tenants once the
+ * {@link FairScheduler} granted a permit. The permit is held until the response is closed.
+ */
+final class TenantTransport implements HttpTransport {
+
+    private final String tenantId;
+    private final HttpTransport delegate;
+    private final FairScheduler scheduler;
+
+    TenantTransport(final String tenantId, final HttpTransport delegate, final FairScheduler scheduler) {
+        this.tenantId = tenantId;
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public TransportResponse send(final TransportRequest request) throws IOException {
+        awaitPermit();
+
+        boolean sent = false;
+        try {
+            final TransportResponse response = releaseOnClose(delegate.send(request));
+            sent = true;
+            return response;
+        } finally {
+            if (!sent) {
+                scheduler.release();
+            }
+        }
+    }
+
+    private void awaitPermit() throws InterruptedIOException {
+        final CompletableFuture<Void> permit = scheduler.acquire(tenantId);
+        try {
+            permit.get();
+        } catch (final InterruptedException e) {
+            if (!permit.cancel(false)) {
+                // the permit was granted in the meantime
+                scheduler.release();
+            }
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a request permit");
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(final TransportRequest request) {
+        return scheduler.acquire(tenantId)
+            .thenCompose(v -> delegate.sendAsync(request))
+            .handle((response, ex) -> {
+                if (ex != null) {
+                    scheduler.release();
+                    throw ex instanceof RuntimeException ? (RuntimeException) ex : new IllegalStateException(ex);
+                }
+                return releaseOnClose(response);
+            });
+    }
+
+    private TransportResponse releaseOnClose(final TransportResponse response) {
+        final AtomicBoolean released = new AtomicBoolean();
+        final InputStream body = new FilterInputStream(response.getBody()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        scheduler.release();
+                    }
+                }
+            }
+        };
+        return new TransportResponse(response.getStatusCode(), response.getHeaders(), body);
+    }
+
+}
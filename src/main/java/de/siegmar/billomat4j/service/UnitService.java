@@ -19,6 +19,7 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -66,6 +67,21 @@ public class UnitService extends AbstractService implements GenericCustomFieldSe
         return getById(RESOURCE, Unit.class, unitId);
     }
 
+    /**
+     * Gets multiple units by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param unitIds the units' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found units and the ids of units that don't exist
+     * @throws NullPointerException     if unitIds is null
+     * @throws IllegalArgumentException if unitIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getUnitById(int)
+     */
+    public BulkLookupResult<Unit> getUnitsByIds(final Collection<Integer> unitIds) {
+        return getByIds(RESOURCE, Unit.class, unitIds);
+    }
+
     /**
      * @param unit the unit to create, must not be {@code null}
      * @throws NullPointerException if unit is null
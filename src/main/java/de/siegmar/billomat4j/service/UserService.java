@@ -19,6 +19,7 @@
 
 package de.siegmar.billomat4j.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -73,6 +74,21 @@ public class UserService extends AbstractService implements GenericCustomFieldSe
         return getById(RESOURCE, User.class, userId);
     }
 
+    /**
+     * Gets multiple users by their ids using concurrent requests (see
+     * {@link BillomatConfiguration#setBulkConcurrency(int)}).
+     *
+     * @param userIds the users' ids, must not be {@code null} or contain {@code null} elements
+     * @return the found users and the ids of users that don't exist
+     * @throws NullPointerException     if userIds is null
+     * @throws IllegalArgumentException if userIds contains null elements
+     * @throws BulkServiceException     if one or more lookups failed
+     * @see #getUserById(int)
+     */
+    public BulkLookupResult<User> getUsersByIds(final Collection<Integer> userIds) {
+        return getByIds(RESOURCE, User.class, userIds);
+    }
+
     /**
      * @return the authenticated user
      * @throws ServiceException if an error occurred while accessing the web service
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.sync;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The persistent state of the {@link SyncEngine} - per source the high-water mark, the time of the
+ * last reconciliation and the fingerprints of all known records.
+ */
+final class Checkpoint {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final Map<String, State> states = new LinkedHashMap<>();
+
+    private Checkpoint() {
+    }
+
+    static Checkpoint read(final Path file) {
+        final Checkpoint checkpoint = new Checkpoint();
+        if (Files.notExists(file)) {
+            return checkpoint;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported checkpoint file format: " + file);
+            }
+            final int sourceCount = in.readInt();
+            for (int i = 0; i < sourceCount; i++) {
+                final String name = in.readUTF();
+                checkpoint.states.put(name, State.read(in));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read checkpoint file " + file, e);
+        }
+
+        return checkpoint;
+    }
+
+    /**
+     * Writes the checkpoint to a temporary file first and replaces the given file with it
+     * atomically - an interrupted write never corrupts an existing checkpoint.
+     *
+     * @param file the checkpoint file
+     */
+    void write(final Path file) {
+        final Path dir = file.toAbsolutePath().getParent();
+        try {
+            final Path tmpFile = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(tmpFile)))) {
+
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(states.size());
+                for (final Map.Entry<String, State> entry : states.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    entry.getValue().write(out);
+                }
+            } catch (final IOException e) {
+                Files.deleteIfExists(tmpFile);
+                throw e;
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write checkpoint file " + file, e);
+        }
+    }
+
+    State getState(final String source) {
+        return states.computeIfAbsent(source, s -> new State());
+    }
+
+    /**
+     * The state of a single source.
+     */
+    static final class State {
+
+        private final Map<Integer, Long> fingerprints;
+        private LocalDate highWaterMark;
+        private Instant lastReconciliation;
+
+        State() {
+            this(new HashMap<>());
+        }
+
+        private State(final Map<Integer, Long> fingerprints) {
+            this.fingerprints = fingerprints;
+        }
+
+        private static State read(final DataInputStream in) throws IOException {
+            final long highWaterMark = in.readLong();
+            final long lastReconciliation = in.readLong();
+            final int count = in.readInt();
+            final State state = new State(new HashMap<>(count * 2));
+            for (int i = 0; i < count; i++) {
+                state.fingerprints.put(in.readInt(), in.readLong());
+            }
+            state.highWaterMark = highWaterMark != NONE ? LocalDate.ofEpochDay(highWaterMark) : null;
+            state.lastReconciliation = lastReconciliation != NONE ? Instant.ofEpochMilli(lastReconciliation) : null;
+            return state;
+        }
+
+        private void write(final DataOutputStream out) throws IOException {
+            out.writeLong(highWaterMark != null ? highWaterMark.toEpochDay() : NONE);
+            out.writeLong(lastReconciliation != null ? lastReconciliation.toEpochMilli() : NONE);
+            out.writeInt(fingerprints.size());
+            for (final Map.Entry<Integer, Long> entry : fingerprints.entrySet()) {
+                out.writeInt(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+        }
+
+        /**
+         * @return the fingerprints of all known records by record id
+         */
+        Map<Integer, Long> getFingerprints() {
+            return fingerprints;
+        }
+
+        /**
+         * @return the latest date of all known records or {@code null} if unknown
+         */
+        LocalDate getHighWaterMark() {
+            return highWaterMark;
+        }
+
+        void setHighWaterMark(final LocalDate highWaterMark) {
+            this.highWaterMark = highWaterMark;
+        }
+
+        /**
+         * @return the time of the last complete fetch or {@code null} if none happened yet
+         */
+        Instant getLastReconciliation() {
+            return lastReconciliation;
+        }
+
+        void setLastReconciliation(final Instant lastReconciliation) {
+            this.lastReconciliation = lastReconciliation;
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.sync;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Calculates fingerprints of records to detect changed records without keeping them.
+ */
+final class Fingerprint {
+
+    // no view - unlike the writer used for requests, all properties are included
+    private static final ObjectWriter WRITER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+        .build()
+        .writer()
+        .without(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+        .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private Fingerprint() {
+    }
+
+    /**
+     * @param record the record to calculate the fingerprint for
+     * @return the first 64 bits of the SHA-256 hash of the JSON representation of the record
+     */
+    static long of(final Object record) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(WRITER.writeValueAsBytes(record));
+            return ByteBuffer.wrap(hash).getLong();
+        } catch (final JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.sync;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.siegmar.billomat4j.domain.Identifiable;
+
+/**
+ * Mirrors records of the Billomat API incrementally by emitting insert, update and delete events
+ * instead of fetching all records on every run.
+ * <p>
+ * Per source, the engine keeps a checkpoint with the latest record date seen (the high-water mark)
+ * and a fingerprint of every known record. A regular sync only fetches the records dated on or after
+ * the high-water mark minus the {@link #setLookback(Period) lookback} and emits events for new and
+ * changed records. Records outside of that window and deleted records are only detected by a
+ * reconciliation - a sync fetching all records - which takes place on the first sync and after
+ * the {@link #setReconciliationInterval(Duration) reconciliation interval} elapsed.
+ * <pre>{@code
+ * SyncEngine engine = new SyncEngine(Path.of("billomat-sync.checkpoint"));
+ * engine.register(SyncSource.invoices(invoiceService), event -> warehouse.apply(event));
+ * engine.register(SyncSource.clients(clientService), event -> warehouse.apply(event));
+ * engine.sync();
+ * }</pre>
+ * Instances are not thread-safe, checkpoint files must not be shared by multiple engines.
+ */
+public final class SyncEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SyncEngine.class);
+    private static final Period DEFAULT_LOOKBACK = Period.ofDays(30);
+    private static final Duration DEFAULT_RECONCILIATION_INTERVAL = Duration.ofDays(7);
+
+    private final Path checkpointFile;
+    private final Clock clock;
+    private final List<Registration<?>> registrations = new ArrayList<>();
+    private Period lookback = DEFAULT_LOOKBACK;
+    private Duration reconciliationInterval = DEFAULT_RECONCILIATION_INTERVAL;
+
+    /**
+     * @param checkpointFile the file to keep the checkpoints in, created by the first sync
+     */
+    public SyncEngine(final Path checkpointFile) {
+        this(checkpointFile, Clock.systemUTC());
+    }
+
+    SyncEngine(final Path checkpointFile, final Clock clock) {
+        this.checkpointFile = Validate.notNull(checkpointFile);
+        this.clock = clock;
+    }
+
+    /**
+     * Defines how far before the high-water mark records are fetched by a regular sync - records
+     * that changed without being (re)dated within this period are only detected by the next
+     * reconciliation. Default is 30 days.
+     *
+     * @param lookback the lookback period, must not be negative
+     */
+    public void setLookback(final Period lookback) {
+        Validate.isTrue(!lookback.isNegative(), "lookback must not be negative");
+        this.lookback = lookback;
+    }
+
+    /**
+     * Defines the time between two reconciliations. Default is 7 days.
+     *
+     * @param reconciliationInterval the reconciliation interval, {@link Duration#ZERO} to fetch all
+     *                               records on every sync
+     */
+    public void setReconciliationInterval(final Duration reconciliationInterval) {
+        Validate.isTrue(!reconciliationInterval.isNegative(), "reconciliationInterval must not be negative");
+        this.reconciliationInterval = reconciliationInterval;
+    }
+
+    /**
+     * Registers a source to be synchronized.
+     *
+     * @param source   the source
+     * @param listener the listener receiving the changes of the source
+     * @param <T>      the type of the records
+     * @throws IllegalArgumentException if a source with the same name is already registered
+     */
+    public <T extends Identifiable> void register(final SyncSource<T> source, final SyncListener<? super T> listener) {
+        Validate.notNull(source);
+        Validate.notNull(listener);
+        Validate.isTrue(registrations.stream().noneMatch(r -> r.source.getName().equals(source.getName())),
+            "Source %s already registered", source.getName());
+        registrations.add(new Registration<>(source, listener));
+    }
+
+    /**
+     * Synchronizes all registered sources. The checkpoint of each source is saved after all of its
+     * events have been delivered.
+     *
+     * @throws de.siegmar.billomat4j.service.ServiceException if an error occurred while accessing
+     *                                                        the web service
+     * @throws java.io.UncheckedIOException                   if the checkpoint file could not be read
+     *                                                        or written
+     */
+    public void sync() {
+        final Checkpoint checkpoint = Checkpoint.read(checkpointFile);
+        for (final Registration<?> registration : registrations) {
+            sync(registration, checkpoint.getState(registration.source.getName()));
+            checkpoint.write(checkpointFile);
+        }
+    }
+
+    private <T extends Identifiable> void sync(final Registration<T> registration, final Checkpoint.State state) {
+        final SyncSource<T> source = registration.source;
+        final Instant now = clock.instant();
+        final boolean reconcile = isReconciliationDue(source, state, now);
+        final LocalDate from = reconcile ? null : state.getHighWaterMark().minus(lookback);
+
+        final Run<T> run = new Run<>(registration, state, reconcile);
+        try (Stream<T> records = source.fetch(from)) {
+            records.forEach(run::accept);
+        }
+
+        if (reconcile) {
+            run.deleteUnseen();
+            state.setLastReconciliation(now);
+        }
+
+        LOG.debug("Synchronized {} (from={}): {} inserted, {} updated, {} deleted", source.getName(), from,
+            run.count(SyncEvent.Type.INSERT), run.count(SyncEvent.Type.UPDATE), run.count(SyncEvent.Type.DELETE));
+    }
+
+    private boolean isReconciliationDue(final SyncSource<?> source, final Checkpoint.State state,
+                                        final Instant now) {
+        return !source.isDated()
+            || state.getHighWaterMark() == null
+            || state.getLastReconciliation() == null
+            || !now.isBefore(state.getLastReconciliation().plus(reconciliationInterval));
+    }
+
+    /**
+     * A single sync of a source - compares the fetched records with the known ones.
+     */
+    private static final class Run<T extends Identifiable> {
+
+        private final SyncSource<T> source;
+        private final SyncListener<? super T> listener;
+        private final Checkpoint.State state;
+        private final Map<Integer, Long> fingerprints;
+        private final Set<Integer> unseen;
+        private final Map<SyncEvent.Type, Integer> counts = new EnumMap<>(SyncEvent.Type.class);
+
+        Run(final Registration<T> registration, final Checkpoint.State state, final boolean reconcile) {
+            source = registration.source;
+            listener = registration.listener;
+            this.state = state;
+            fingerprints = state.getFingerprints();
+            unseen = reconcile ? new HashSet<>(fingerprints.keySet()) : new HashSet<>();
+        }
+
+        void accept(final T record) {
+            final int id = record.getId();
+            final long fingerprint = Fingerprint.of(record);
+            final Long previous = fingerprints.get(id);
+            if (previous == null) {
+                emit(SyncEvent.Type.INSERT, id, record);
+            } else if (previous != fingerprint) {
+                emit(SyncEvent.Type.UPDATE, id, record);
+            }
+            fingerprints.put(id, fingerprint);
+            unseen.remove(id);
+
+            if (source.isDated()) {
+                final LocalDate date = source.dateOf(record);
+                if (date != null && (state.getHighWaterMark() == null || date.isAfter(state.getHighWaterMark()))) {
+                    state.setHighWaterMark(date);
+                }
+            }
+        }
+
+        /**
+         * Emits delete events for all known records not fetched by this (complete) run. Records may
+         * be missed while paging through a list that changes concurrently, so their absence is
+         * confirmed by the existence check of the source first.
+         */
+        void deleteUnseen() {
+            for (final Integer id : unseen) {
+                if (!source.exists(id)) {
+                    emit(SyncEvent.Type.DELETE, id, null);
+                    fingerprints.remove(id);
+                }
+            }
+        }
+
+        int count(final SyncEvent.Type type) {
+            return counts.getOrDefault(type, 0);
+        }
+
+        private void emit(final SyncEvent.Type type, final int id, final T record) {
+            listener.onEvent(new SyncEvent<>(type, source.getName(), id, record));
+            counts.merge(type, 1, Integer::sum);
+        }
+
+    }
+
+    private static final class Registration<T extends Identifiable> {
+
+        private final SyncSource<T> source;
+        private final SyncListener<? super T> listener;
+
+        Registration(final SyncSource<T> source, final SyncListener<? super T> listener) {
+            this.source = source;
+            this.listener = listener;
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.sync;
+
+/**
+ * A change of a record detected by the {@link SyncEngine}.
+ *
+ * @param <T> the type of the record
+ */
+public final class SyncEvent<T> {
+
+    private final Type type;
+    private final String source;
+    private final int id;
+    private final T record;
+
+    SyncEvent(final Type type, final String source, final int id, final T record) {
+        this.type = type;
+        this.source = source;
+        this.id = id;
+        this.record = record;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the name of the source (see {@link SyncSource#getName()}) the record belongs to
+     */
+    public String getSource() {
+        return source;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return the record or {@code null} for {@link Type#DELETE} events
+     */
+    public T getRecord() {
+        return record;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncEvent [type=" + type + ", source=" + source + ", id=" + id + "]";
+    }
+
+    /**
+     * The type of change.
+     */
+    public enum Type {
+
+        /**
+         * A record not seen before.
+         */
+        INSERT,
+
+        /**
+         * A known record whose content changed since it was seen last.
+         */
+        UPDATE,
+
+        /**
+         * A known record that no longer exists.
+         */
+        DELETE
+
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.sync;
+
+/**
+ * Receives the changes detected by the {@link SyncEngine}.
+ * <p>
+ * The checkpoint of a source is only saved after all of its events have been delivered. If a
+ * listener throws an exception, the sync is aborted and the events are delivered again by the next
+ * sync - listeners have to handle repeated events.
+ *
+ * @param <T> the type of the records
+ */
+@FunctionalInterface
+public interface SyncListener<T> {
+
+    /**
+     * Called for every detected change.
+     *
+     * @param event the change
+     */
+    void onEvent(SyncEvent<T> event);
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.sync;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.Validate;
+
+import de.siegmar.billomat4j.domain.Identifiable;
+import de.siegmar.billomat4j.domain.client.Client;
+import de.siegmar.billomat4j.domain.creditnote.CreditNote;
+import de.siegmar.billomat4j.domain.creditnote.CreditNoteFilter;
+import de.siegmar.billomat4j.domain.creditnote.CreditNotePayment;
+import de.siegmar.billomat4j.domain.creditnote.CreditNotePaymentFilter;
+import de.siegmar.billomat4j.domain.invoice.Invoice;
+import de.siegmar.billomat4j.domain.invoice.InvoiceFilter;
+import de.siegmar.billomat4j.domain.invoice.InvoicePayment;
+import de.siegmar.billomat4j.domain.invoice.InvoicePaymentFilter;
+import de.siegmar.billomat4j.service.ClientService;
+import de.siegmar.billomat4j.service.CreditNoteService;
+import de.siegmar.billomat4j.service.InvoiceService;
+
+/**
+ * A kind of records synchronized by the {@link SyncEngine}.
+ * <p>
+ * A source fetches either all of its records or - if it has a date - only the records dated on
+ * or after a given day (e.g. by using {@link de.siegmar.billomat4j.domain.AbstractInvoiceFilter#byFrom(LocalDate)}).
+ *
+ * @param <T> the type of the records
+ */
+public final class SyncSource<T extends Identifiable> {
+
+    private final String name;
+    private final Function<LocalDate, Stream<T>> fetcher;
+    private final Function<T, LocalDate> dateExtractor;
+    private final IntPredicate existenceCheck;
+
+    private SyncSource(final String name, final Function<LocalDate, Stream<T>> fetcher,
+                       final Function<T, LocalDate> dateExtractor, final IntPredicate existenceCheck) {
+        this.name = Validate.notBlank(name);
+        this.fetcher = Validate.notNull(fetcher);
+        this.dateExtractor = dateExtractor;
+        this.existenceCheck = existenceCheck;
+    }
+
+    /**
+     * Creates a custom source.
+     *
+     * @param name           the unique name of the source, used as key in the checkpoint file
+     * @param fetcher        fetches the records dated on or after the given day - or all records if
+     *                       the given day is {@code null}
+     * @param dateExtractor  extracts the date of a record, may be {@code null} if the records have
+     *                       no date - all records are fetched by every sync then
+     * @param existenceCheck checks if the record with the given id exists before a delete event is
+     *                       emitted for it (records may be missed while paging through a list that
+     *                       changes concurrently), may be {@code null} to skip the check
+     * @param <T>            the type of the records
+     * @return the source
+     */
+    public static <T extends Identifiable> SyncSource<T> of(final String name,
+                                                           final Function<LocalDate, Stream<T>> fetcher,
+                                                           final Function<T, LocalDate> dateExtractor,
+                                                           final IntPredicate existenceCheck) {
+        return new SyncSource<>(name, fetcher, dateExtractor, existenceCheck);
+    }
+
+    public static SyncSource<Invoice> invoices(final InvoiceService invoiceService) {
+        Validate.notNull(invoiceService);
+        return of("invoices", from -> invoiceService.streamInvoices(
+            from != null ? new InvoiceFilter().byFrom(from) : null), Invoice::getDate,
+            id -> invoiceService.getInvoiceById(id).isPresent());
+    }
+
+    public static SyncSource<InvoicePayment> invoicePayments(final InvoiceService invoiceService) {
+        Validate.notNull(invoiceService);
+        return of("invoice-payments", from -> invoiceService.findPayments(
+            from != null ? new InvoicePaymentFilter().byFrom(from) : null).stream(), InvoicePayment::getDate,
+            id -> invoiceService.getPaymentById(id).isPresent());
+    }
+
+    public static SyncSource<CreditNote> creditNotes(final CreditNoteService creditNoteService) {
+        Validate.notNull(creditNoteService);
+        return of("credit-notes", from -> creditNoteService.streamCreditNotes(
+            from != null ? new CreditNoteFilter().byFrom(from) : null), CreditNote::getDate,
+            id -> creditNoteService.getCreditNoteById(id).isPresent());
+    }
+
+    public static SyncSource<CreditNotePayment> creditNotePayments(final CreditNoteService creditNoteService) {
+        Validate.notNull(creditNoteService);
+        return of("credit-note-payments", from -> creditNoteService.findPayments(
+            from != null ? new CreditNotePaymentFilter().byFrom(from) : null).stream(), CreditNotePayment::getDate,
+            id -> creditNoteService.getPaymentById(id).isPresent());
+    }
+
+    /**
+     * Clients have no date to restrict the fetched records by - all clients are fetched by
+     * every sync.
+     *
+     * @param clientService the client service
+     * @return the source
+     */
+    public static SyncSource<Client> clients(final ClientService clientService) {
+        Validate.notNull(clientService);
+        return of("clients", from -> clientService.streamClients(null), null,
+            id -> clientService.getClientById(id).isPresent());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    boolean isDated() {
+        return dateExtractor != null;
+    }
+
+    Stream<T> fetch(final LocalDate from) {
+        return fetcher.apply(from);
+    }
+
+    LocalDate dateOf(final T record) {
+        return dateExtractor.apply(record);
+    }
+
+    boolean exists(final int id) {
+        return existenceCheck != null && existenceCheck.test(id);
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.transport;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The transport used to send HTTP requests to the Billomat API.
+ * <p>
+ * The default implementation is {@link JdkHttpTransport}. A custom implementation can be
+ * configured via {@link de.siegmar.billomat4j.service.BillomatConfiguration#setHttpTransport(HttpTransport)}
+ * - e.g. to use a differently tuned HTTP client or an in-memory fake for testing.
+ * Implementations have to be thread-safe.
+ */
+public interface HttpTransport {
+
+    /**
+     * Sends the request and blocks until the response headers are received.
+     *
+     * @param request the request to send
+     * @return the response - the caller is responsible for closing it
+     * @throws IOException if an I/O error occurred while sending or receiving
+     */
+    TransportResponse send(TransportRequest request) throws IOException;
+
+    /**
+     * Sends the request asynchronously. The default implementation calls {@link #send(TransportRequest)}
+     * in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     *
+     * @param request the request to send
+     * @return the future response - the caller is responsible for closing it
+     */
+    default CompletableFuture<TransportResponse> sendAsync(final TransportRequest request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return send(request);
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+}
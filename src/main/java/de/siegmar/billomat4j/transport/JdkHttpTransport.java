@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link HttpTransport} implementation based on the JDK {@link HttpClient}.
+ * <p>
+ * The JDK client keeps connections alive and reuses them (HTTP/2 streams are multiplexed over a
+ * single connection). To tune executor, protocol version, proxy or SSL settings, pass a custom
+ * configured client to {@link #JdkHttpTransport(HttpClient)}.
+ */
+public class JdkHttpTransport implements HttpTransport {
+
+    private final HttpClient httpClient;
+
+    /**
+     * Creates a transport using a default JDK client.
+     *
+     * @param connectTimeout the timeout for establishing connections
+     */
+    public JdkHttpTransport(final Duration connectTimeout) {
+        this(HttpClient.newBuilder()
+            .connectTimeout(connectTimeout)
+            .build());
+    }
+
+    /**
+     * Creates a transport using the given JDK client.
+     *
+     * @param httpClient the client to use
+     */
+    public JdkHttpTransport(final HttpClient httpClient) {
+        this.httpClient = Objects.requireNonNull(httpClient);
+    }
+
+    @Override
+    public TransportResponse send(final TransportRequest request) throws IOException {
+        final HttpResponse<InputStream> res;
+        try {
+            res = httpClient.send(buildRequest(request), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        return new TransportResponse(res.statusCode(), res.headers().map(), res.body());
+    }
+
+    /**
+     * Sends the request asynchronously. The returned future completes when the response body is
+     * received completely, so reading the body never blocks.
+     *
+     * @param request the request to send
+     * @return the future response
+     */
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(final TransportRequest request) {
+        return httpClient.sendAsync(buildRequest(request), HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(res -> new TransportResponse(res.statusCode(), res.headers().map(),
+                new ByteArrayInputStream(res.body())));
+    }
+
+    private static HttpRequest buildRequest(final TransportRequest request) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+            .timeout(request.getTimeout());
+
+        request.getHeaders().forEach(builder::setHeader);
+
+        final byte[] body = request.bodyArray();
+        return builder
+            .method(request.getMethod(), body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    }
+
+}
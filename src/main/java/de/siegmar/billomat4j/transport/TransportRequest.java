@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.transport;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable HTTP request to be sent by a {@link HttpTransport}.
+ */
+public class TransportRequest {
+
+    private final String method;
+    private final URI uri;
+    private final Map<String, String> headers;
+    private final byte[] body;
+    private final Duration timeout;
+
+    /**
+     * @param method  the HTTP method (e.g. {@code GET})
+     * @param uri     the request URI
+     * @param headers the request headers
+     * @param body    the request body, may be {@code null} - copied, so later changes of the array
+     *                don't affect the request
+     * @param timeout the timeout for receiving the response
+     */
+    public TransportRequest(final String method, final URI uri, final Map<String, String> headers,
+                            final byte[] body, final Duration timeout) {
+        this.method = Objects.requireNonNull(method);
+        this.uri = Objects.requireNonNull(uri);
+        this.headers = Map.copyOf(headers);
+        this.body = body == null ? null : body.clone();
+        this.timeout = Objects.requireNonNull(timeout);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return a read-only view of the request body or {@code null} if the request has no body
+     */
+    public ByteBuffer getBody() {
+        return body == null ? null : ByteBuffer.wrap(body).asReadOnlyBuffer();
+    }
+
+    /**
+     * For transports of this package - the body without copying it. Must not be modified.
+     *
+     * @return the request body or {@code null} if the request has no body
+     */
+    byte[] bodyArray() {
+        return body;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + uri;
+    }
+
+}
@@ -1,7 +1,10 @@
 module billomat4j {
 
     exports de.siegmar.billomat4j.domain;
+    exports de.siegmar.billomat4j.metrics;
     exports de.siegmar.billomat4j.service;
+    exports de.siegmar.billomat4j.sync;
+    exports de.siegmar.billomat4j.transport;
 
     exports de.siegmar.billomat4j.domain.article;
     exports de.siegmar.billomat4j.domain.client;
@@ -34,12 +37,17 @@ module billomat4j {
     opens de.siegmar.billomat4j.domain.unit;
     opens de.siegmar.billomat4j.domain.user;
 
-    requires java.net.http;
+    // deserializers referenced by annotations (e.g. CentsDeserializer) are instantiated by Jackson
+    opens de.siegmar.billomat4j.json to com.fasterxml.jackson.databind;
+
+    // JdkHttpTransport accepts a custom HttpClient
+    requires transitive java.net.http;
     requires com.fasterxml.jackson.annotation;
     requires com.fasterxml.jackson.core;
     requires com.fasterxml.jackson.databind;
     requires org.apache.commons.lang3;
     requires org.slf4j;
     requires com.fasterxml.jackson.datatype.jsr310;
+    requires static com.fasterxml.jackson.module.blackbird;
 
 }
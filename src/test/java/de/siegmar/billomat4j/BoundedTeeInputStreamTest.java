@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class BoundedTeeInputStreamTest {
+
+    @Test
+    public void keepsCopyOfReadBytes() throws IOException {
+        final InputStream in = new BoundedTeeInputStream(stream("{\"id\":\"1\"}"), 64);
+
+        assertEquals('{', in.read());
+        in.transferTo(OutputStream.nullOutputStream());
+
+        assertEquals("{\"id\":\"1\"}", in.toString());
+    }
+
+    @Test
+    public void truncatesCopyAtLimit() throws IOException {
+        final InputStream in = new BoundedTeeInputStream(stream("0123456789"), 4);
+
+        assertEquals('0', in.read());
+        final byte[] buf = new byte[6];
+        assertEquals(6, in.read(buf, 0, buf.length));
+        assertEquals('7', in.read());
+        in.transferTo(OutputStream.nullOutputStream());
+
+        assertEquals("0123... [truncated, 10 bytes total]", in.toString());
+    }
+
+    @Test
+    public void passesThroughAllBytes() throws IOException {
+        final InputStream in = new BoundedTeeInputStream(stream("0123456789"), 2);
+
+        assertEquals("0123456789", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    private static InputStream stream(final String data) {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressionTest {
+
+    private static final byte[] DATA = "{\"invoices\":{\"@total\":\"0\"}}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void decodeGzip() throws IOException {
+        assertArrayEquals(DATA, Compression.decode("gzip", stream(Compression.gzip(DATA))).readAllBytes());
+        assertArrayEquals(DATA, Compression.decode(" X-GZIP ", stream(Compression.gzip(DATA))).readAllBytes());
+    }
+
+    @Test
+    public void decodeDeflate() throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bos)) {
+            out.write(DATA);
+        }
+
+        assertArrayEquals(DATA, Compression.decode("deflate", stream(bos.toByteArray())).readAllBytes());
+    }
+
+    @Test
+    public void identityIsNotWrapped() throws IOException {
+        final InputStream body = stream(DATA);
+
+        assertSame(body, Compression.decode(null, body));
+        assertSame(body, Compression.decode("identity", body));
+        assertSame(body, Compression.decode("", body));
+    }
+
+    @Test
+    public void emptyCompressedBody() throws IOException {
+        assertEquals(-1, Compression.decode("gzip", stream(new byte[0])).read());
+    }
+
+    @Test
+    public void unsupportedEncoding() {
+        final IOException e = assertThrows(IOException.class, () -> Compression.decode("br", stream(DATA)));
+        assertEquals("Unsupported content encoding: br", e.getMessage());
+    }
+
+    private static InputStream stream(final byte[] data) {
+        return new ByteArrayInputStream(data);
+    }
+
+}
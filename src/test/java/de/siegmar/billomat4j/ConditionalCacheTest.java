@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.siegmar.billomat4j.service.BillomatConfiguration;
+
+public class ConditionalCacheTest {
+
+    private static final String CLIENT = "{\"client\":{\"id\":\"1\"}}";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void revalidation() throws IOException {
+        final StubTransport transport = new StubTransport(request -> {
+            if ("\"v1\"".equals(request.getHeaders().get("If-None-Match"))) {
+                return StubTransport.response(304, "");
+            }
+            return StubTransport.response(StubTransport.SC_OK, Map.of("ETag", "\"v1\""), CLIENT);
+        });
+
+        final BillomatConfiguration cfg = new BillomatConfiguration();
+        cfg.setBillomatId("host");
+        cfg.setApiKey("key");
+        cfg.setHttpTransport(transport);
+        cfg.setConditionalCacheMaxBytes(1024);
+        final RequestHelper requestHelper = new RequestHelper(cfg);
+
+        assertEquals(CLIENT, new String(requestHelper.get("clients", "1", null, null), StandardCharsets.UTF_8));
+        assertNull(transport.getRequests().get(0).getHeaders().get("If-None-Match"));
+
+        // the second request is revalidated and answered by 304 Not Modified
+        assertEquals(CLIENT, new String(requestHelper.get("clients", "1", null, null), StandardCharsets.UTF_8));
+        assertEquals("\"v1\"", transport.getRequests().get(1).getHeaders().get("If-None-Match"));
+        assertEquals(2, transport.getRequests().size());
+    }
+
+    @Test
+    public void byteBoundedLru() {
+        final ConditionalCache cache = new ConditionalCache(100, null);
+        for (int i = 1; i <= 5; i++) {
+            cache.put(uri(i), entry(20));
+        }
+
+        // touch the eldest entry - the second one is evicted instead
+        assertNotNull(cache.get(uri(1)));
+        cache.put(uri(6), entry(20));
+
+        assertNotNull(cache.get(uri(1)));
+        assertNull(cache.get(uri(2)));
+        assertNotNull(cache.get(uri(6)));
+
+        // entries larger than a quarter of the limit are not kept in memory
+        cache.put(uri(7), entry(26));
+        assertNull(cache.get(uri(7)));
+        assertNotNull(cache.get(uri(3)));
+    }
+
+    @Test
+    public void diskPersistence() throws IOException {
+        final byte[] body = CLIENT.getBytes(StandardCharsets.UTF_8);
+        new ConditionalCache(1024, tempDir).put(uri(1), new ConditionalCache.Entry("\"v1\"",
+            "Sat, 10 Jan 2026 10:00:00 GMT", body));
+
+        // a new instance (e.g. after a restart) reads the response from disk
+        final ConditionalCache reloaded = new ConditionalCache(1024, tempDir);
+        final ConditionalCache.Entry entry = reloaded.get(uri(1));
+        assertEquals("\"v1\"", entry.getEtag());
+        assertEquals("Sat, 10 Jan 2026 10:00:00 GMT", entry.getLastModified());
+        assertArrayEquals(body, entry.getBody());
+        assertNull(reloaded.get(uri(2)));
+
+        reloaded.remove(uri(1));
+        assertNull(new ConditionalCache(1024, tempDir).get(uri(1)));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertFalse(files.findAny().isPresent());
+        }
+    }
+
+    private static URI uri(final int id) {
+        return URI.create("https://host.billomat.net/api/clients/" + id);
+    }
+
+    private static ConditionalCache.Entry entry(final int size) {
+        return new ConditionalCache.Entry("\"v1\"", null, new byte[size]);
+    }
+
+}
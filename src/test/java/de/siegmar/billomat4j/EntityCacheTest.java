@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class EntityCacheTest {
+
+    private static final URI URI_1 = URI.create("https://host.billomat.net/api/units/1");
+    private static final URI URI_2 = URI.create("https://host.billomat.net/api/units/2");
+    private static final byte[] DATA = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final EntityCache cache = new EntityCache(Map.of("units", Duration.ofMinutes(1)), 1);
+
+    @Test
+    public void cachesConfiguredResources() {
+        cache.put("units", URI_1, DATA, cache.generation("units"));
+        cache.put("taxes", URI_2, DATA, cache.generation("taxes"));
+
+        assertArrayEquals(DATA, cache.get("units", URI_1));
+        assertNull(cache.get("taxes", URI_2));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        cache.put("units", URI_1, DATA, cache.generation("units"));
+        cache.put("units", URI_2, DATA, cache.generation("units"));
+
+        assertNull(cache.get("units", URI_1));
+        assertArrayEquals(DATA, cache.get("units", URI_2));
+    }
+
+    @Test
+    public void invalidateFencesRequestsInFlight() {
+        cache.put("units", URI_1, DATA, cache.generation("units"));
+
+        // a GET is sent, the resource is modified before its response is received
+        final long generation = cache.generation("units");
+        cache.invalidate("units");
+        cache.put("units", URI_2, DATA, generation);
+
+        assertNull(cache.get("units", URI_1));
+        assertNull(cache.get("units", URI_2));
+
+        // requests sent after the modification are cached again
+        cache.put("units", URI_2, DATA, cache.generation("units"));
+        assertArrayEquals(DATA, cache.get("units", URI_2));
+    }
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import de.siegmar.billomat4j.domain.invoice.Invoice;
+import de.siegmar.billomat4j.domain.invoice.Invoices;
+import de.siegmar.billomat4j.service.BillomatConfiguration;
+import de.siegmar.billomat4j.service.ServiceException;
+import de.siegmar.billomat4j.service.ServiceResponseException;
+import de.siegmar.billomat4j.transport.HttpTransport;
+
+public class PagerTest {
+
+    private static final int PER_PAGE = 10;
+    private static final int TOTAL = 95;
+
+    private static final ObjectReader READER = new ObjectMapper().reader()
+        .with(DeserializationFeature.UNWRAP_ROOT_VALUE)
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    public void parallelFetchKeepsPageOrder() {
+        // later pages respond faster
+        final StubTransport transport = new StubTransport(request -> {
+            final int page = StubTransport.page(request);
+            sleep((10 - page) * 5L);
+            return StubTransport.response(StubTransport.SC_OK, StubTransport.invoicesPage(page, PER_PAGE, TOTAL));
+        });
+
+        final Pager<Invoices, Invoice> pager = pager(transport, 4);
+        final List<Integer> ids = pager.getAll("invoices", null).stream()
+            .map(Invoice::getId)
+            .collect(Collectors.toList());
+
+        assertEquals(IntStream.rangeClosed(1, TOTAL).boxed().collect(Collectors.toList()), ids);
+        assertEquals(10, transport.getRequests().size());
+        assertTrue(transport.getMaxInFlight() <= 4, "concurrency limit exceeded");
+    }
+
+    @Test
+    public void parallelFetchPropagatesFailure() throws InterruptedException {
+        final StubTransport transport = new StubTransport(request -> {
+            final int page = StubTransport.page(request);
+            if (page == 3) {
+                return StubTransport.response(400, "{\"errors\":{\"error\":\"invalid\"}}");
+            }
+            sleep(20);
+            return StubTransport.response(StubTransport.SC_OK, StubTransport.invoicesPage(page, PER_PAGE, TOTAL));
+        });
+
+        final Pager<Invoices, Invoice> pager = pager(transport, 2);
+        final ServiceResponseException e = assertThrows(ServiceResponseException.class,
+            () -> pager.getAll("invoices", null));
+        assertEquals(400, e.getStatusCode());
+
+        // no request is running or started after returning - pages not yet started are skipped
+        final int requests = transport.getRequests().size();
+        assertEquals(0, transport.getInFlight());
+        Thread.sleep(100);
+        assertEquals(requests, transport.getRequests().size());
+        assertTrue(requests < 10, "pages after the failure should have been skipped");
+    }
+
+    @Test
+    public void parallelFetchUsesConfiguredExecutor() {
+        final StubTransport transport = new StubTransport(request -> StubTransport.response(StubTransport.SC_OK,
+            StubTransport.invoicesPage(StubTransport.page(request), PER_PAGE, TOTAL)));
+
+        final AtomicInteger tasks = new AtomicInteger();
+        final Executor executor = command -> {
+            tasks.incrementAndGet();
+            command.run();
+        };
+
+        final Pager<Invoices, Invoice> pager = pager(transport, 4);
+        pager.setExecutor(executor);
+
+        assertEquals(TOTAL, pager.getAll("invoices", null).size());
+        assertEquals(9, tasks.get());
+    }
+
+    @Test
+    public void pageRetriesRetryIoErrors() {
+        final AtomicInteger failures = new AtomicInteger(2);
+        final StubTransport transport = new StubTransport(request -> {
+            final int page = StubTransport.page(request);
+            if (page == 2 && failures.getAndDecrement() > 0) {
+                throw new IOException("Connection reset");
+            }
+            return StubTransport.response(StubTransport.SC_OK, StubTransport.invoicesPage(page, PER_PAGE, TOTAL));
+        });
+
+        final Pager<Invoices, Invoice> pager = pager(transport, 1);
+        pager.setPageRetries(2, Duration.ZERO);
+
+        assertEquals(TOTAL, pager.getAll("invoices", null).size());
+        assertEquals(12, transport.getRequests().size());
+    }
+
+    @Test
+    public void malformedPagesAreNotRetried() {
+        final StubTransport transport = new StubTransport(request -> {
+            final int page = StubTransport.page(request);
+            return StubTransport.response(StubTransport.SC_OK,
+                page == 2 ? "{\"invoices\":{" : StubTransport.invoicesPage(page, PER_PAGE, TOTAL));
+        });
+
+        final Pager<Invoices, Invoice> pager = pager(transport, 1);
+        pager.setPageRetries(2, Duration.ZERO);
+
+        final ServiceException e = assertThrows(ServiceException.class, () -> pager.getAll("invoices", null));
+        assertTrue(e.getCause() instanceof JsonProcessingException, "unexpected cause " + e.getCause());
+        assertEquals(2, transport.getRequests().size());
+    }
+
+    @Test
+    public void getAllAsyncKeepsPageOrder() {
+        // later pages respond faster
+        final StubTransport transport = new StubTransport(request -> {
+            final int page = StubTransport.page(request);
+            sleep((10 - page) * 5L);
+            return StubTransport.response(StubTransport.SC_OK, StubTransport.invoicesPage(page, PER_PAGE, TOTAL));
+        });
+
+        final List<Integer> ids = pager(transport, 4).getAllAsync("invoices", null).join().stream()
+            .map(Invoice::getId)
+            .collect(Collectors.toList());
+
+        assertEquals(IntStream.rangeClosed(1, TOTAL).boxed().collect(Collectors.toList()), ids);
+        assertEquals(10, transport.getRequests().size());
+        assertTrue(transport.getMaxInFlight() <= 4, "concurrency limit exceeded");
+    }
+
+    @Test
+    public void getAllAsyncPropagatesFailure() {
+        final StubTransport transport = new StubTransport(request -> {
+            final int page = StubTransport.page(request);
+            if (page == 3) {
+                return StubTransport.response(400, "{\"errors\":{\"error\":\"invalid\"}}");
+            }
+            return StubTransport.response(StubTransport.SC_OK, StubTransport.invoicesPage(page, PER_PAGE, TOTAL));
+        });
+
+        final CompletionException e = assertThrows(CompletionException.class,
+            () -> pager(transport, 2).getAllAsync("invoices", null).join());
+        assertTrue(e.getCause() instanceof ServiceResponseException, "unexpected cause " + e.getCause());
+        assertEquals(400, ((ServiceResponseException) e.getCause()).getStatusCode());
+    }
+
+    @Test
+    public void streamFetchesPagesOnDemand() {
+        final StubTransport transport = new StubTransport(request -> StubTransport.response(StubTransport.SC_OK,
+            StubTransport.invoicesPage(StubTransport.page(request), PER_PAGE, TOTAL)));
+
+        final Stream<Invoice> stream = pager(transport, 1).stream("invoices", null);
+        assertEquals(0, transport.getRequests().size());
+
+        final Iterator<Invoice> it = stream.iterator();
+        assertEquals(1, it.next().getId().intValue());
+        assertEquals(1, transport.getRequests().size());
+
+        for (int i = 2; i <= PER_PAGE; i++) {
+            assertEquals(i, it.next().getId().intValue());
+        }
+        assertEquals(1, transport.getRequests().size());
+
+        assertEquals(PER_PAGE + 1, it.next().getId().intValue());
+        assertEquals(2, transport.getRequests().size());
+        assertEquals("2", StubTransport.queryParam(transport.getRequests().get(1), "page", null));
+    }
+
+    @Test
+    public void streamStopsEarlyOnLimit() {
+        final StubTransport transport = new StubTransport(request -> StubTransport.response(StubTransport.SC_OK,
+            StubTransport.invoicesPage(StubTransport.page(request), PER_PAGE, TOTAL)));
+
+        final List<Integer> ids = pager(transport, 1).stream("invoices", null)
+            .limit(15)
+            .map(Invoice::getId)
+            .collect(Collectors.toList());
+
+        assertEquals(IntStream.rangeClosed(1, 15).boxed().collect(Collectors.toList()), ids);
+        assertEquals(2, transport.getRequests().size());
+    }
+
+    @Test
+    public void streamReadsAllPages() {
+        final StubTransport transport = new StubTransport(request -> StubTransport.response(StubTransport.SC_OK,
+            StubTransport.invoicesPage(StubTransport.page(request), PER_PAGE, TOTAL)));
+
+        final List<Integer> ids = pager(transport, 1).stream("invoices", null)
+            .map(Invoice::getId)
+            .collect(Collectors.toList());
+
+        assertEquals(IntStream.rangeClosed(1, TOTAL).boxed().collect(Collectors.toList()), ids);
+        assertEquals(10, transport.getRequests().size());
+    }
+
+    private static Pager<Invoices, Invoice> pager(final HttpTransport transport, final int fetchConcurrency) {
+        final BillomatConfiguration cfg = new BillomatConfiguration();
+        cfg.setBillomatId("host");
+        cfg.setApiKey("key");
+        cfg.setHttpTransport(transport);
+
+        final Pager<Invoices, Invoice> pager = new Pager<>(Invoices.class, new RequestHelper(cfg), READER);
+        pager.setPageSize(PER_PAGE);
+        pager.setFetchConcurrency(fetchConcurrency);
+        return pager;
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
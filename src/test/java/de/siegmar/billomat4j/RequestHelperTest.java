@@ -19,18 +19,42 @@
 
 package de.siegmar.billomat4j;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import de.siegmar.billomat4j.domain.invoice.Invoice;
 import de.siegmar.billomat4j.service.BillomatConfiguration;
+import de.siegmar.billomat4j.service.ServiceResponseException;
+import de.siegmar.billomat4j.transport.HttpTransport;
+import de.siegmar.billomat4j.transport.TransportRequest;
+import de.siegmar.billomat4j.transport.TransportResponse;
 
 public class RequestHelperTest {
 
+    private static final ObjectReader INVOICE_READER = new ObjectMapper().readerFor(Invoice.class)
+        .with(DeserializationFeature.UNWRAP_ROOT_VALUE)
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
     private final RequestHelper requestHelper;
 
     public RequestHelperTest() {
@@ -52,4 +76,118 @@ public class RequestHelperTest {
         assertEquals("https://host.billomat.net/api/resource/id/method?a=b&name=m%C3%BCller", actualPath.toString());
     }
 
+    @Test
+    public void streamedGetDecodesAndConsumesResponse() throws IOException {
+        final ByteArrayInputStream body = new ByteArrayInputStream(
+            "{\"invoice\":{\"id\":\"7\"}}\n\n".getBytes(StandardCharsets.UTF_8));
+        final StubTransport transport = new StubTransport(request ->
+            new TransportResponse(StubTransport.SC_OK, Map.of(), body));
+
+        final Invoice invoice = requestHelper(transport).get("invoices", "7", null, null, INVOICE_READER);
+
+        assertEquals(Integer.valueOf(7), invoice.getId());
+        assertEquals(0, body.available());
+    }
+
+    @Test
+    public void streamedGetOfMissingResource() throws IOException {
+        final StubTransport transport = new StubTransport(request ->
+            StubTransport.response(StubTransport.SC_NOT_FOUND, ""));
+
+        assertNull(requestHelper(transport).get("invoices", "7", null, null, INVOICE_READER));
+    }
+
+    @Test
+    public void streamedGetFailsOnErrorResponse() {
+        final StubTransport transport = new StubTransport(request ->
+            StubTransport.response(400, "{\"errors\":{\"error\":\"invalid\"}}"));
+
+        final ServiceResponseException e = assertThrows(ServiceResponseException.class,
+            () -> requestHelper(transport).get("invoices", "7", null, null, INVOICE_READER));
+        assertEquals(400, e.getStatusCode());
+    }
+
+    @Test
+    public void compressedResponsesAreRequestedOnlyIfEnabled() throws IOException {
+        final StubTransport transport = new StubTransport(request ->
+            StubTransport.response(StubTransport.SC_OK, "{}"));
+
+        requestHelper(transport).get("invoices", "7", null, null);
+
+        final BillomatConfiguration cfg = configuration(transport);
+        cfg.setCompressResponses(true);
+        new RequestHelper(cfg).get("invoices", "7", null, null);
+
+        final List<TransportRequest> requests = transport.getRequests();
+        assertFalse(requests.get(0).getHeaders().containsKey("Accept-Encoding"));
+        assertEquals("gzip, deflate", requests.get(1).getHeaders().get("Accept-Encoding"));
+    }
+
+    @Test
+    public void streamedGetDecodesGzipResponse() throws IOException {
+        final StubTransport transport = new StubTransport(request -> new TransportResponse(StubTransport.SC_OK,
+            Map.of("Content-Encoding", List.of("gzip")),
+            new ByteArrayInputStream(Compression.gzip(utf8("{\"invoice\":{\"id\":\"7\"}}")))));
+
+        final Invoice invoice = requestHelper(transport).get("invoices", "7", null, null, INVOICE_READER);
+
+        assertEquals(Integer.valueOf(7), invoice.getId());
+    }
+
+    @Test
+    public void asyncGetDecodesGzipResponse() {
+        final byte[] data = utf8("{\"invoice\":{\"id\":\"7\"}}");
+        final StubTransport transport = new StubTransport(request -> new TransportResponse(StubTransport.SC_OK,
+            Map.of("Content-Encoding", List.of("x-gzip")), new ByteArrayInputStream(Compression.gzip(data))));
+
+        assertArrayEquals(data, requestHelper(transport).getAsync("invoices", "7", null, null).join());
+    }
+
+    @Test
+    public void requestBodiesAreCompressedFromThreshold() throws IOException {
+        final StubTransport transport = new StubTransport(request ->
+            StubTransport.response(StubTransport.SC_OK, "{}"));
+        final BillomatConfiguration cfg = configuration(transport);
+        cfg.setRequestCompressionThreshold(16);
+        final RequestHelper helper = new RequestHelper(cfg);
+
+        final byte[] small = utf8("{\"a\":\"b\"}");
+        final byte[] large = utf8("{\"title\":\"a longer title\"}");
+        helper.post("invoices", null, small);
+        helper.post("invoices", null, large);
+
+        final TransportRequest uncompressed = transport.getRequests().get(0);
+        assertFalse(uncompressed.getHeaders().containsKey("Content-Encoding"));
+        assertArrayEquals(small, bytes(uncompressed));
+
+        final TransportRequest compressed = transport.getRequests().get(1);
+        assertEquals("gzip", compressed.getHeaders().get("Content-Encoding"));
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes(compressed)))) {
+            assertArrayEquals(large, in.readAllBytes());
+        }
+    }
+
+    private static RequestHelper requestHelper(final HttpTransport transport) {
+        return new RequestHelper(configuration(transport));
+    }
+
+    private static BillomatConfiguration configuration(final HttpTransport transport) {
+        final BillomatConfiguration cfg = new BillomatConfiguration();
+        cfg.setBillomatId("host");
+        cfg.setApiKey("key");
+        cfg.setHttpTransport(transport);
+        return cfg;
+    }
+
+    private static byte[] utf8(final String data) {
+        return data.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(final TransportRequest request) {
+        final ByteBuffer body = request.getBody();
+        final byte[] data = new byte[body.remaining()];
+        body.get(data);
+        return data;
+    }
+
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class RetryPolicyTest {
+
+    private final RetryPolicy retryPolicy = new RetryPolicy(2, Duration.ZERO);
+
+    @Test
+    public void idempotentRequests() {
+        for (final int statusCode : new int[]{429, 502, 503, 504}) {
+            assertTrue(retryPolicy.shouldRetry(statusCode, "GET", 0));
+            assertTrue(retryPolicy.shouldRetry(statusCode, "PUT", 1));
+            assertFalse(retryPolicy.shouldRetry(statusCode, "GET", 2));
+        }
+        assertFalse(retryPolicy.shouldRetry(500, "GET", 0));
+    }
+
+    @Test
+    public void nonIdempotentRequests() {
+        assertTrue(retryPolicy.shouldRetry(429, "POST", 0));
+        for (final int statusCode : new int[]{500, 502, 503, 504}) {
+            assertFalse(retryPolicy.shouldRetry(statusCode, "POST", 0));
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import de.siegmar.billomat4j.service.BillomatConfiguration;
+import de.siegmar.billomat4j.service.ServiceException;
+import de.siegmar.billomat4j.service.ServiceResponseException;
+
+public class SingleFlightTest {
+
+    private static final int CALLERS = 5;
+    private static final int SC_SERVICE_UNAVAILABLE = 503;
+    private static final String CLIENT = "{\"client\":{\"id\":\"1\"}}";
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    public void concurrentGetsShareOneRequest() throws InterruptedException {
+        final StubTransport transport = new StubTransport(request -> {
+            await(release);
+            return StubTransport.response(StubTransport.SC_OK, CLIENT);
+        });
+
+        final List<Object> results = getConcurrently(requestHelper(transport));
+
+        assertEquals(1, transport.getRequests().size());
+        for (final Object result : results) {
+            assertEquals(CLIENT, result);
+        }
+    }
+
+    @Test
+    public void failureReachesAllWaiters() throws InterruptedException {
+        final StubTransport transport = new StubTransport(request -> {
+            await(release);
+            throw new IOException("Connection reset");
+        });
+
+        final List<Object> results = getConcurrently(requestHelper(transport));
+
+        assertEquals(1, transport.getRequests().size());
+        for (final Object result : results) {
+            assertTrue(result instanceof IOException, "unexpected result " + result);
+            assertTrue(((IOException) result).getMessage().contains("Connection reset"));
+        }
+    }
+
+    @Test
+    public void errorResponseReachesAllWaitersWithStatusCode() throws InterruptedException {
+        final StubTransport transport = new StubTransport(request -> {
+            await(release);
+            return StubTransport.response(SC_SERVICE_UNAVAILABLE, "{}");
+        });
+
+        final List<Object> results = getConcurrently(requestHelper(transport));
+
+        assertEquals(1, transport.getRequests().size());
+        for (final Object result : results) {
+            assertTrue(result instanceof ServiceResponseException, "unexpected result " + result);
+            assertEquals(SC_SERVICE_UNAVAILABLE, ((ServiceResponseException) result).getStatusCode());
+        }
+    }
+
+    @Test
+    public void completedCallsAreNotShared() throws IOException {
+        final StubTransport transport = new StubTransport(request ->
+            StubTransport.response(StubTransport.SC_OK, CLIENT));
+        final RequestHelper requestHelper = requestHelper(transport);
+
+        requestHelper.get("clients", "1", null, null);
+        requestHelper.get("clients", "1", null, null);
+        requestHelper.get("clients", "2", null, null);
+
+        assertEquals(3, transport.getRequests().size());
+    }
+
+    @Test
+    public void asyncCallsShareResultAndFailure() {
+        final SingleFlight<String> singleFlight = new SingleFlight<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<String> call = new CompletableFuture<>();
+
+        final List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(singleFlight.executeAsync("key", () -> {
+                calls.incrementAndGet();
+                return call;
+            }));
+        }
+
+        // cancelling the future of one caller doesn't affect the others
+        futures.get(1).cancel(false);
+
+        call.completeExceptionally(new IOException("Connection reset"));
+
+        assertEquals(1, calls.get());
+        assertTrue(futures.get(1).isCancelled());
+        for (final CompletableFuture<String> future : futures.subList(2, CALLERS)) {
+            final CompletionException e = assertThrows(CompletionException.class, future::join);
+            assertTrue(e.getCause() instanceof IOException, "unexpected cause " + e.getCause());
+        }
+    }
+
+    @Test
+    public void asyncCallFailingSynchronouslyReleasesKey() {
+        final SingleFlight<String> singleFlight = new SingleFlight<>();
+        final List<CompletableFuture<String>> followers = new ArrayList<>();
+
+        assertThrows(ServiceException.class, () -> singleFlight.executeAsync("key", () -> {
+            // a follower arriving while the leader's call is being started
+            followers.add(singleFlight.executeAsync("key", CompletableFuture::new));
+            throw new ServiceException("Invalid request");
+        }));
+
+        final CompletionException e = assertThrows(CompletionException.class, followers.get(0)::join);
+        assertTrue(e.getCause() instanceof ServiceException, "unexpected cause " + e.getCause());
+        assertEquals("ok", singleFlight.executeAsync("key", () -> CompletableFuture.completedFuture("ok")).join());
+    }
+
+    /**
+     * Performs identical GET requests by concurrent threads. The transport is released once all
+     * threads are waiting - either for the response or for the request of another thread.
+     *
+     * @return the response bodies (as strings) or the exceptions thrown per thread
+     */
+    private List<Object> getConcurrently(final RequestHelper requestHelper) throws InterruptedException {
+        final Object[] results = new Object[CALLERS];
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            final int caller = i;
+            final Thread thread = new Thread(() -> {
+                try {
+                    results[caller] = new String(requestHelper.get("clients", "1", null, null),
+                        StandardCharsets.UTF_8);
+                } catch (final IOException | ServiceException e) {
+                    results[caller] = e;
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        while (!threads.stream().allMatch(t -> t.getState() == Thread.State.WAITING)) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        return List.of(results);
+    }
+
+    private static RequestHelper requestHelper(final StubTransport transport) {
+        final BillomatConfiguration cfg = new BillomatConfiguration();
+        cfg.setBillomatId("host");
+        cfg.setApiKey("key");
+        cfg.setHttpTransport(transport);
+        cfg.setCoalesceRequests(true);
+        return new RequestHelper(cfg);
+    }
+
+    private static void await(final CountDownLatch latch) throws IOException {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+}
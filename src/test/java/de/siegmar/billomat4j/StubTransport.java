@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import de.siegmar.billomat4j.transport.HttpTransport;
+import de.siegmar.billomat4j.transport.TransportRequest;
+import de.siegmar.billomat4j.transport.TransportResponse;
+
+/**
+ * In-memory transport for tests - delegates to a handler and records all requests.
+ */
+public class StubTransport implements HttpTransport {
+
+    public static final int SC_OK = 200;
+    public static final int SC_NOT_FOUND = 404;
+
+    private static final Map<String, List<String>> HEADERS =
+        Map.of("Content-Type", List.of("application/json"));
+
+    private final HttpTransport handler;
+    private final Queue<TransportRequest> requests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public StubTransport(final HttpTransport handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public TransportResponse send(final TransportRequest request) throws IOException {
+        requests.add(request);
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            return handler.send(request);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return a snapshot of the requests sent so far
+     */
+    public List<TransportRequest> getRequests() {
+        return List.copyOf(requests);
+    }
+
+    public void clearRequests() {
+        requests.clear();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public static TransportResponse response(final int statusCode, final String body) {
+        return response(statusCode, Map.of(), body);
+    }
+
+    public static TransportResponse response(final int statusCode, final Map<String, String> headers,
+                                             final String body) {
+        final Map<String, List<String>> headerMap = new TreeMap<>(HEADERS);
+        headers.forEach((name, value) -> headerMap.put(name, List.of(value)));
+        return new TransportResponse(statusCode, headerMap,
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static TransportResponse response(final int statusCode, final byte[] body) {
+        return new TransportResponse(statusCode, HEADERS, new ByteArrayInputStream(body));
+    }
+
+    /**
+     * Builds a page of an invoice list response as returned by the API - the invoices only consist of
+     * their id.
+     *
+     * @param page    the page number (1-based)
+     * @param perPage the number of records per page
+     * @param total   the total number of records
+     * @return the JSON response body
+     */
+    public static String invoicesPage(final int page, final int perPage, final int total) {
+        final List<Integer> ids = new ArrayList<>();
+        for (int id = (page - 1) * perPage + 1; id <= Math.min(total, page * perPage); id++) {
+            ids.add(id);
+        }
+        return invoicesPage(page, perPage, total, ids);
+    }
+
+    /**
+     * Builds a page of an invoice list response containing the given invoices.
+     *
+     * @param page    the page number (1-based)
+     * @param perPage the number of records per page
+     * @param total   the total number of records
+     * @param ids     the ids of the invoices on this page
+     * @return the JSON response body
+     */
+    public static String invoicesPage(final int page, final int perPage, final int total, final List<Integer> ids) {
+        return ids.stream()
+            .map(id -> "{\"id\":\"" + id + "\"}")
+            .collect(Collectors.joining(",", "{\"invoices\":{\"@page\":\"" + page + "\",\"@per_page\":\""
+                + perPage + "\",\"@total\":\"" + total + "\",\"invoice\":[", "]}}"));
+    }
+
+    public static String queryParam(final TransportRequest request, final String name, final String defaultValue) {
+        for (final String param : StringUtils.split(StringUtils.defaultString(request.getUri().getRawQuery()), '&')) {
+            if (param.startsWith(name + "=")) {
+                return param.substring(name.length() + 1);
+            }
+        }
+        return defaultValue;
+    }
+
+    public static int page(final TransportRequest request) {
+        return Integer.parseInt(queryParam(request, "page", "1"));
+    }
+
+}
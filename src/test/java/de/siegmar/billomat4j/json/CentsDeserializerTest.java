@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+public class CentsDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void decimalStrings() throws IOException {
+        assertEquals(1250L, read("\"12.50\""));
+        assertEquals(1250L, read("\"12.5\""));
+        assertEquals(700L, read("\" 7 \""));
+        assertEquals(-1999L, read("\"-19.99\""));
+    }
+
+    @Test
+    public void roundsHalfUp() throws IOException {
+        assertEquals(1235L, read("\"12.345\""));
+        assertEquals(1234L, read("\"12.3449\""));
+        assertEquals(-101L, read("\"-1.005\""));
+        assertEquals(1L, read("\"0.005\""));
+    }
+
+    @Test
+    public void numberTokens() throws IOException {
+        assertEquals(1250L, read("12.5"));
+        assertEquals(300L, read("3"));
+        assertEquals(1235L, read("12.345"));
+    }
+
+    @Test
+    public void emptyAndNull() throws IOException {
+        assertEquals(0L, read("\"\""));
+        assertEquals(0L, read("\"  \""));
+        assertEquals(0L, read("null"));
+        assertEquals(0L, objectMapper.readValue("{}", Amount.class).cents);
+    }
+
+    private long read(final String json) throws IOException {
+        return objectMapper.readValue("{\"cents\":" + json + "}", Amount.class).cents;
+    }
+
+    public static class Amount {
+
+        @JsonDeserialize(using = CentsDeserializer.class)
+        public long cents;
+
+    }
+
+}
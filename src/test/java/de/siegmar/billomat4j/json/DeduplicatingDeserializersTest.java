@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+public class DeduplicatingDeserializersTest {
+
+    private static final String JSON = "[{\"status\":\"PAID\",\"currency_code\":\"EUR\",\"title\":\"Consulting\","
+        + "\"tax_rate\":\"19.00\",\"total_gross\":\"12.50\"},"
+        + "{\"status\":\"PAID\",\"currency_code\":\"EUR\",\"title\":\"Consulting\","
+        + "\"tax_rate\":\"19.00\",\"total_gross\":\"12.50\"}]";
+
+    private final ValuePool<String> stringPool = new ValuePool<>(100);
+    private final ValuePool<BigDecimal> decimalPool = new ValuePool<>(100);
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+        .registerModule(new SimpleModule()
+            .addDeserializer(String.class, new DeduplicatingStringDeserializer(stringPool,
+                DeduplicatingStringDeserializer.DEFAULT_PROPERTIES))
+            .addDeserializer(BigDecimal.class, new DeduplicatingBigDecimalDeserializer(decimalPool,
+                DeduplicatingBigDecimalDeserializer.DEFAULT_PROPERTIES)));
+
+    @Test
+    public void listedPropertiesAreDeduplicated() throws IOException {
+        final List<Record> records = read();
+
+        assertEquals("PAID", records.get(0).status);
+        assertSame(records.get(0).status, records.get(1).status);
+        assertSame(records.get(0).currencyCode, records.get(1).currencyCode);
+        assertSame(records.get(0).taxRate, records.get(1).taxRate);
+    }
+
+    @Test
+    public void otherPropertiesAreNotPooled() throws IOException {
+        final List<Record> records = read();
+
+        assertEquals("Consulting", records.get(0).title);
+        assertNotSame(records.get(0).title, records.get(1).title);
+        assertEquals(new BigDecimal("12.50"), records.get(0).totalGross);
+        assertNotSame(records.get(0).totalGross, records.get(1).totalGross);
+        assertEquals(2, stringPool.size());
+        assertEquals(1, decimalPool.size());
+    }
+
+    @Test
+    public void nullValues() throws IOException {
+        final Record record = objectMapper.readValue("{\"status\":null,\"tax_rate\":null}", Record.class);
+
+        assertNull(record.status);
+        assertNull(record.taxRate);
+        assertEquals(0, stringPool.size());
+    }
+
+    @Test
+    public void longStringsAreNotPooled() throws IOException {
+        final String address = "x".repeat(300);
+        final Record record = objectMapper.readValue("{\"address\":\"" + address + "\"}", Record.class);
+
+        assertEquals(address, record.address);
+        assertEquals(0, stringPool.size());
+    }
+
+    @Test
+    public void poolIsBounded() {
+        final ValuePool<String> pool = new ValuePool<>(2);
+        final String a = new String("a");
+        final String c = new String("c");
+
+        assertSame(a, pool.canonicalize(a));
+        pool.canonicalize("b");
+        assertSame(a, pool.canonicalize(new String("a")));
+        assertSame(c, pool.canonicalize(c));
+        assertNotSame(c, pool.canonicalize(new String("c")));
+        assertNull(pool.canonicalize(null));
+        assertEquals(2, pool.size());
+    }
+
+    private List<Record> read() throws IOException {
+        return objectMapper.readValue(JSON, new TypeReference<List<Record>>() { });
+    }
+
+    public static class Record {
+
+        public String status;
+        public String currencyCode;
+        public String address;
+        public String title;
+        public BigDecimal taxRate;
+        public BigDecimal totalGross;
+
+    }
+
+}
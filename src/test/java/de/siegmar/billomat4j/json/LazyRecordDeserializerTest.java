@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import de.siegmar.billomat4j.domain.LazyRecord;
+
+public class LazyRecordDeserializerTest {
+
+    private static final String RECORD = "{\"id\":7,\"status\":\"PAID\",\"note\":null,\"amount\":12.5,"
+        + "\"items\":{\"item\":[{\"id\":1}]},\"tags\":[\"a\",\"b\"]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader reader = objectMapper.reader()
+        .with(new InjectableValues.Std().addValue(LazyRecordDeserializer.RECORD_READERS,
+            (Function<Class<?>, ObjectReader>) objectMapper::readerFor));
+
+    @Test
+    public void capturesId() throws IOException {
+        assertEquals(Integer.valueOf(7), read(RECORD).getId());
+        assertNull(read("{\"id\":null,\"status\":\"PAID\"}").getId());
+        assertNull(read("{\"status\":\"PAID\"}").getId());
+        assertEquals(Integer.valueOf(8), read("{\"id\":\"8\"}").getId());
+    }
+
+    @Test
+    public void peeksScalarProperties() throws IOException {
+        final LazyRecord<Record> record = read(RECORD);
+
+        assertEquals(Optional.of("PAID"), record.peek("status"));
+        assertEquals(Optional.of("12.5"), record.peek("amount"));
+        assertEquals(Optional.of("7"), record.peek("id"));
+    }
+
+    @Test
+    public void peeksMissingNullAndStructuredProperties() throws IOException {
+        final LazyRecord<Record> record = read(RECORD);
+
+        assertEquals(Optional.empty(), record.peek("missing"));
+        assertEquals(Optional.empty(), record.peek("note"));
+        assertEquals(Optional.empty(), record.peek("items"));
+        assertEquals(Optional.empty(), record.peek("tags"));
+    }
+
+    @Test
+    public void bindsOnFirstGet() throws IOException {
+        final LazyRecord<Record> record = read(RECORD);
+        final Record bound = record.get();
+
+        assertEquals(7, bound.id);
+        assertEquals("PAID", bound.status);
+        assertEquals(List.of("a", "b"), bound.tags);
+        assertSame(bound, record.get());
+    }
+
+    @Test
+    public void getFailsOnUnboundableJson() throws IOException {
+        final LazyRecord<Record> record = read("{\"id\":1,\"status\":{\"nested\":true}}");
+
+        assertEquals(Integer.valueOf(1), record.getId());
+        assertThrows(UncheckedIOException.class, record::get);
+    }
+
+    @Test
+    public void rejectsNonObjects() {
+        assertThrows(MismatchedInputException.class, () -> readList("[1]"));
+    }
+
+    @Test
+    public void readsLists() throws IOException {
+        final List<LazyRecord<Record>> records = readList("[" + RECORD + ",{\"id\":9}]");
+
+        assertEquals(2, records.size());
+        assertEquals(Integer.valueOf(9), records.get(1).getId());
+        assertNull(records.get(1).get().status);
+    }
+
+    @Test
+    public void factoryIsInstalledOnce() {
+        assertThrows(IllegalStateException.class,
+            () -> LazyRecordDeserializer.installRecordFactory((id, json, r) -> null));
+    }
+
+    private LazyRecord<Record> read(final String json) throws IOException {
+        return readList("[" + json + "]").get(0);
+    }
+
+    private List<LazyRecord<Record>> readList(final String json) throws IOException {
+        return reader.forType(new TypeReference<List<LazyRecord<Record>>>() { }).readValue(json);
+    }
+
+    public static class Record {
+
+        public int id;
+        public String status;
+        public String note;
+        public double amount;
+        public Object items;
+        public List<String> tags;
+
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void percentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(Duration.ofMillis(i));
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(Duration.ofMillis(1000), histogram.getMax());
+        assertEquals(Duration.ofNanos(500_500_000), histogram.getMean());
+        assertApproximately(Duration.ofMillis(500), histogram.getPercentile(50));
+        assertApproximately(Duration.ofMillis(990), histogram.getPercentile(99));
+        assertEquals(Duration.ofMillis(1000), histogram.getPercentile(100));
+    }
+
+    @Test
+    public void empty() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(Duration.ZERO, histogram.getPercentile(99));
+        assertEquals(Duration.ZERO, histogram.getMean());
+    }
+
+    private static void assertApproximately(final Duration expected, final Duration actual) {
+        final double error = Math.abs(actual.toNanos() - expected.toNanos()) / (double) expected.toNanos();
+        assertTrue(error <= 0.125, "expected " + expected + " but was " + actual);
+    }
+
+}
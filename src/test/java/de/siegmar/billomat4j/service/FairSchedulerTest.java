@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+public class FairSchedulerTest {
+
+    private final FairScheduler scheduler = new FairScheduler(1);
+    private final List<String> granted = new ArrayList<>();
+
+    @Test
+    public void roundRobin() {
+        assertTrue(scheduler.acquire("a").isDone());
+
+        // tenant a queues most requests - but b and c are served in between
+        acquire("a1");
+        acquire("a2");
+        acquire("a3");
+        acquire("b1");
+        acquire("b2");
+        acquire("c1");
+        assertEquals(List.of(), granted);
+
+        for (int i = 0; i < 6; i++) {
+            scheduler.release();
+        }
+        assertEquals(List.of("a1", "b1", "c1", "a2", "b2", "a3"), granted);
+
+        // all permits returned
+        scheduler.release();
+        assertTrue(scheduler.acquire("d").isDone());
+    }
+
+    @Test
+    public void concurrencyLimit() {
+        final FairScheduler scheduler2 = new FairScheduler(2);
+        assertTrue(scheduler2.acquire("a").isDone());
+        assertTrue(scheduler2.acquire("a").isDone());
+
+        final CompletableFuture<Void> waiter = scheduler2.acquire("b");
+        assertFalse(waiter.isDone());
+
+        scheduler2.release();
+        assertTrue(waiter.isDone());
+    }
+
+    @Test
+    public void cancelledWaiterPassesPermitOn() {
+        assertTrue(scheduler.acquire("a").isDone());
+        final CompletableFuture<Void> cancelled = scheduler.acquire("b");
+        acquire("c1");
+
+        cancelled.cancel(false);
+        scheduler.release();
+        assertEquals(List.of("c1"), granted);
+
+        // the cancelled waiter doesn't hold a permit
+        scheduler.release();
+        assertTrue(scheduler.acquire("d").isDone());
+    }
+
+    private void acquire(final String request) {
+        scheduler.acquire(request.substring(0, 1)).thenRun(() -> granted.add(request));
+    }
+
+}
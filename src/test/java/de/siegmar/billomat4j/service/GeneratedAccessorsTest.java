@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import de.siegmar.billomat4j.domain.invoice.Invoice;
+
+public class GeneratedAccessorsTest {
+
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    @Test
+    public void availability() {
+        assertTrue(GeneratedAccessors.isAvailable(GeneratedAccessors.class.getClassLoader()));
+
+        // a class loader only knowing the JDK classes
+        assertFalse(GeneratedAccessors.isAvailable(new ClassLoader(null) { }));
+    }
+
+    @Test
+    public void moduleIsOnlyRegisteredIfEnabled() {
+        assertFalse(registeredModules(new CodecRegistry(configuration(false))).contains(BLACKBIRD_MODULE));
+        assertTrue(registeredModules(new CodecRegistry(configuration(true))).contains(BLACKBIRD_MODULE));
+    }
+
+    @Test
+    public void readsWithGeneratedAccessors() throws IOException {
+        final CodecRegistry codecs = new CodecRegistry(configuration(true));
+        final byte[] json = "{\"invoice\":{\"id\":\"7\",\"client_id\":\"3\",\"total_gross\":\"12.50\"}}"
+            .getBytes(StandardCharsets.UTF_8);
+
+        final Invoice invoice = codecs.readerFor(Invoice.class).readValue(json);
+
+        assertEquals(7, invoice.getId().intValue());
+        assertEquals(3, invoice.getClientId().intValue());
+        assertEquals(new BigDecimal("12.50"), invoice.getTotalGross());
+    }
+
+    private static BillomatConfiguration configuration(final boolean generatedAccessors) {
+        final BillomatConfiguration cfg = new BillomatConfiguration();
+        cfg.setBillomatId("host");
+        cfg.setApiKey("key");
+        cfg.setGeneratedAccessors(generatedAccessors);
+        return cfg;
+    }
+
+    private static Set<Object> registeredModules(final CodecRegistry codecs) {
+        final ObjectReader reader = codecs.getObjectReader();
+        return ((ObjectMapper) reader.getFactory().getCodec()).getRegisteredModuleIds();
+    }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.siegmar.billomat4j.StubTransport;
+import de.siegmar.billomat4j.domain.invoice.Invoice;
+import de.siegmar.billomat4j.domain.invoice.InvoiceFilter;
+import de.siegmar.billomat4j.domain.invoice.InvoiceItem;
+import de.siegmar.billomat4j.domain.invoice.InvoiceStatus;
+import de.siegmar.billomat4j.transport.HttpTransport;
+import de.siegmar.billomat4j.transport.TransportRequest;
+import de.siegmar.billomat4j.transport.TransportResponse;
+
+public class InvoiceServiceTest {
+
+    private static final byte[] PDF = "%PDF-1.4 document".getBytes(StandardCharsets.US_ASCII);
+    private static final Map<String, Integer> ITEM_IDS = Map.of("A", 1, "B", 2, "C", 3);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void downloadPdfDecodesDocumentAndConsumesResponse() {
+        final ByteArrayInputStream body = body("{\"pdf\":{\"id\":\"1\",\"base64file\":\""
+            + Base64.getEncoder().encodeToString(PDF) + "\",\"filename\":\"1.pdf\",\"mimetype\":\"application/pdf\"}}");
+        final StubTransport transport = new StubTransport(request -> response(StubTransport.SC_OK, body));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertTrue(invoiceService(transport).downloadInvoicePdf(1, out));
+
+        assertArrayEquals(PDF, out.toByteArray());
+        assertEquals(0, body.available());
+        assertTrue(transport.getRequests().get(0).getUri().getPath().endsWith("/invoices/1/pdf"));
+    }
+
+    @Test
+    public void downloadPdfFailsWithoutDocument() {
+        final ByteArrayInputStream body = body("{\"pdf\":{\"id\":\"1\",\"filename\":\"1.pdf\"}}");
+        final StubTransport transport = new StubTransport(request -> response(StubTransport.SC_OK, body));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        final ServiceException e = assertThrows(ServiceException.class,
+            () -> invoiceService(transport).downloadInvoicePdf(1, out));
+
+        assertTrue(e.getMessage().contains("no PDF document"), e.getMessage());
+        assertEquals(0, out.size());
+        assertEquals(0, body.available());
+    }
+
+    @Test
+    public void downloadPdfOfMissingInvoice() {
+        final StubTransport transport = new StubTransport(request ->
+            StubTransport.response(StubTransport.SC_NOT_FOUND, ""));
+
+        assertFalse(invoiceService(transport).downloadInvoicePdf(1, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void getInvoiceByIdAsync() {
+        final StubTransport transport = new StubTransport(request ->
+            StubTransport.response(StubTransport.SC_OK, "{\"invoice\":{\"id\":\"7\"}}"));
+
+        final Optional<Invoice> invoice = invoiceService(transport).getInvoiceByIdAsync(7).join();
+
+        assertEquals(Integer.valueOf(7), invoice.orElseThrow().getId());
+        assertTrue(transport.getRequests().get(0).getUri().getPath().endsWith("/invoices/7"));
+    }
+
+    @Test
+    public void getMissingInvoiceByIdAsync() {
+        final StubTransport transport = new StubTransport(request ->
+            StubTransport.response(StubTransport.SC_NOT_FOUND, ""));
+
+        assertTrue(invoiceService(transport).getInvoiceByIdAsync(7).join().isEmpty());
+    }
+
+    @Test
+    public void createItemsUpdatesAllItems() {
+        final StubTransport transport = new StubTransport(InvoiceServiceTest::createdItem);
+        final List<InvoiceItem> items = List.of(item("A"), item("B"), item("C"));
+
+        invoiceService(transport).createItems(items);
+
+        assertEquals(3, transport.getRequests().size());
+        for (final InvoiceItem item : items) {
+            assertEquals(ITEM_IDS.get(item.getTitle()), item.getId());
+        }
+    }
+
+    @Test
+    public void createItemsCollectsFailurePerItem() {
+        final StubTransport transport = new StubTransport(request -> requestBody(request).contains("\"B\"")
+            ? StubTransport.response(400, "{\"errors\":{\"error\":\"invalid\"}}")
+            : createdItem(request));
+        final InvoiceItem itemA = item("A");
+        final InvoiceItem itemB = item("B");
+        final InvoiceItem itemC = item("C");
+
+        final BulkServiceException e = assertThrows(BulkServiceException.class,
+            () -> invoiceService(transport).createItems(List.of(itemA, itemB, itemC)));
+
+        // all items were sent - only the failed one is reported
+        assertEquals(3, transport.getRequests().size());
+        assertEquals(1, e.getFailures().size());
+        final Throwable cause = e.getFailures().get(itemB);
+        assertTrue(cause instanceof ServiceResponseException, "unexpected cause " + cause);
+        assertEquals(400, ((ServiceResponseException) cause).getStatusCode());
+
+        assertEquals(ITEM_IDS.get("A"), itemA.getId());
+        assertNull(itemB.getId());
+        assertEquals(ITEM_IDS.get("C"), itemC.getId());
+    }
+
+    @Test
+    public void countInvoicesRequestsSingleRecord() {
+        final StubTransport transport = new StubTransport(request -> StubTransport.response(StubTransport.SC_OK,
+            StubTransport.invoicesPage(1, 1, 95, List.of(1))));
+
+        assertEquals(95, invoiceService(transport).countInvoices(new InvoiceFilter().byInvoiceNumber("RE-1")));
+
+        final TransportRequest request = transport.getRequests().get(0);
+        assertEquals("1", StubTransport.queryParam(request, "per_page", null));
+        assertEquals("RE-1", StubTransport.queryParam(request, "invoice_number", null));
+        assertEquals(1, transport.getRequests().size());
+    }
+
+    @Test
+    public void countInvoicesByFiltersKeepsFilterOrder() {
+        final Map<String, Integer> totals = Map.of("DRAFT", 3, "PAID", 42, "all", 50);
+        final StubTransport transport = new StubTransport(request -> StubTransport.response(StubTransport.SC_OK,
+            StubTransport.invoicesPage(1, 1, totals.get(StubTransport.queryParam(request, "status", "all")),
+                List.of())));
+
+        final List<Integer> counts = invoiceService(transport).countInvoicesByFilters(Arrays.asList(
+            new InvoiceFilter().byStatus(InvoiceStatus.PAID), null, new InvoiceFilter().byStatus(InvoiceStatus.DRAFT)));
+
+        assertEquals(List.of(42, 50, 3), counts);
+        for (final TransportRequest request : transport.getRequests()) {
+            assertEquals("1", StubTransport.queryParam(request, "per_page", null));
+        }
+    }
+
+    @Test
+    public void getInvoicesByIdsSplitsFoundAndMissing() {
+        final StubTransport transport = new StubTransport(request -> {
+            final String id = lastPathSegment(request);
+            return "2".equals(id)
+                ? StubTransport.response(StubTransport.SC_NOT_FOUND, "")
+                : StubTransport.response(StubTransport.SC_OK, "{\"invoice\":{\"id\":\"" + id + "\"}}");
+        });
+
+        final BulkLookupResult<Invoice> result = invoiceService(transport).getInvoicesByIds(List.of(3, 2, 1, 3));
+
+        assertEquals(List.of(3, 1), List.copyOf(result.getFound().keySet()));
+        assertEquals(Integer.valueOf(3), result.getFound().get(3).getId());
+        assertEquals(Set.of(2), result.getMissing());
+
+        // duplicates are requested once
+        assertEquals(3, transport.getRequests().size());
+    }
+
+    @Test
+    public void getInvoicesByIdsReportsFailedIds() {
+        final StubTransport transport = new StubTransport(request -> {
+            final String id = lastPathSegment(request);
+            if ("2".equals(id)) {
+                return StubTransport.response(500, "{\"errors\":{\"error\":\"failure\"}}");
+            }
+            return "3".equals(id)
+                ? StubTransport.response(StubTransport.SC_NOT_FOUND, "")
+                : StubTransport.response(StubTransport.SC_OK, "{\"invoice\":{\"id\":\"" + id + "\"}}");
+        });
+
+        final BulkServiceException e = assertThrows(BulkServiceException.class,
+            () -> invoiceService(transport).getInvoicesByIds(List.of(1, 2, 3)));
+
+        assertEquals(Set.of(2), e.getFailures().keySet());
+        final Throwable cause = e.getFailures().get(2);
+        assertTrue(cause instanceof ServiceResponseException, "unexpected cause " + cause);
+        assertEquals(500, ((ServiceResponseException) cause).getStatusCode());
+        assertEquals(3, transport.getRequests().size());
+    }
+
+    private static InvoiceService invoiceService(final HttpTransport transport) {
+        final BillomatConfiguration cfg = new BillomatConfiguration();
+        cfg.setBillomatId("host");
+        cfg.setApiKey("key");
+        cfg.setHttpTransport(transport);
+        return new InvoiceService(cfg);
+    }
+
+    private static InvoiceItem item(final String title) {
+        final InvoiceItem item = new InvoiceItem();
+        item.setInvoiceId(1);
+        item.setTitle(title);
+        return item;
+    }
+
+    // responds with the created item - as the API does
+    private static TransportResponse createdItem(final TransportRequest request) throws IOException {
+        final String title = MAPPER.readTree(requestBody(request)).get("invoice-item").get("title").asText();
+        return StubTransport.response(StubTransport.SC_OK, "{\"invoice-item\":{\"id\":\"" + ITEM_IDS.get(title)
+            + "\",\"title\":\"" + title + "\"}}");
+    }
+
+    private static String lastPathSegment(final TransportRequest request) {
+        final String path = request.getUri().getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static String requestBody(final TransportRequest request) {
+        return StandardCharsets.UTF_8.decode(request.getBody()).toString();
+    }
+
+    private static ByteArrayInputStream body(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TransportResponse response(final int statusCode, final ByteArrayInputStream body) {
+        return new TransportResponse(statusCode, Map.of("Content-Type", List.of("application/json")), body);
+    }
+
+}
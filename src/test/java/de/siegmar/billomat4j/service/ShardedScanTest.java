@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.siegmar.billomat4j.Pager;
+import de.siegmar.billomat4j.RequestHelper;
+import de.siegmar.billomat4j.StubTransport;
+import de.siegmar.billomat4j.WorkerPool;
+import de.siegmar.billomat4j.domain.invoice.Invoice;
+import de.siegmar.billomat4j.domain.invoice.Invoices;
+import de.siegmar.billomat4j.transport.TransportRequest;
+import de.siegmar.billomat4j.transport.TransportResponse;
+
+public class ShardedScanTest {
+
+    private static final int PER_PAGE = 3;
+    private static final LocalDate FROM = LocalDate.parse("2026-01-01");
+    private static final LocalDate TO = LocalDate.parse("2026-01-08");
+
+    // 40 invoices dated on 8 days - the highest ids are dated first
+    private final List<Map.Entry<Integer, LocalDate>> invoices = IntStream.rangeClosed(1, 40)
+        .mapToObj(id -> new SimpleEntry<>(id, FROM.plusDays((40 - id) / 5)))
+        .collect(Collectors.toCollection(ArrayList::new));
+
+    private final StubTransport transport = new StubTransport(this::handle);
+
+    @Test
+    public void splitsLargeShards() {
+        assertEquals(ids(1, 40), scan(10, 2));
+
+        // the initial shards (4 days, 20 records) were split in halves
+        final List<String> ranges = transport.getRequests().stream()
+            .map(r -> StubTransport.queryParam(r, "from", null) + "/" + StubTransport.queryParam(r, "to", null))
+            .distinct()
+            .collect(Collectors.toList());
+        assertEquals(List.of("2026-01-01/2026-01-02", "2026-01-01/2026-01-04", "2026-01-03/2026-01-04",
+            "2026-01-05/2026-01-06", "2026-01-05/2026-01-08", "2026-01-07/2026-01-08"),
+            ranges.stream().sorted().collect(Collectors.toList()));
+
+        // only the first page of too large shards is requested
+        assertTrue(transport.getRequests().stream()
+            .filter(r -> StubTransport.page(r) > 1)
+            .noneMatch(r -> "2026-01-04".equals(StubTransport.queryParam(r, "to", null))
+                && "2026-01-01".equals(StubTransport.queryParam(r, "from", null))));
+    }
+
+    @Test
+    public void singleDayShardsAreNotSplit() {
+        // a single day can't be split any further - it is fetched page by page
+        assertEquals(ids(1, 40), scan(2, 8));
+        assertTrue(transport.getRequests().stream()
+            .allMatch(r -> StubTransport.queryParam(r, "from", null)
+                .equals(StubTransport.queryParam(r, "to", null))));
+    }
+
+    @Test
+    public void deduplicatesAndSortsById() {
+        // invoice 7 was redated while scanning and is returned by two shards
+        invoices.add(new SimpleEntry<>(7, TO));
+
+        assertEquals(ids(1, 40), scan(100, 4));
+    }
+
+    @Test
+    public void propagatesFailure() throws InterruptedException {
+        invoices.add(new SimpleEntry<>(-1, FROM.plusDays(2)));
+
+        assertThrows(ServiceResponseException.class, () -> scan(100, 2));
+
+        // no request is running or started after returning
+        final int requests = transport.getRequests().size();
+        assertEquals(0, transport.getInFlight());
+        Thread.sleep(50);
+        assertEquals(requests, transport.getRequests().size());
+        assertFalse(requests > 8, "shards after the failure should have been skipped");
+    }
+
+    private List<Integer> scan(final int maxShardRecords, final int concurrency) {
+        final BillomatConfiguration cfg = new BillomatConfiguration();
+        cfg.setBillomatId("host");
+        cfg.setApiKey("key");
+        cfg.setHttpTransport(transport);
+
+        final Pager<Invoices, Invoice> pager = new Pager<>(Invoices.class, new RequestHelper(cfg),
+            new ObjectMapper().readerFor(Invoices.class)
+                .with(DeserializationFeature.UNWRAP_ROOT_VALUE)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        pager.setPageSize(PER_PAGE);
+
+        return new ShardedScan<>(pager, "invoices", pager.buildParams(null), maxShardRecords, concurrency,
+            WorkerPool.shared()).scan(FROM, TO).stream()
+            .map(Invoice::getId)
+            .collect(Collectors.toList());
+    }
+
+    private TransportResponse handle(final TransportRequest request) {
+        final LocalDate from = LocalDate.parse(StubTransport.queryParam(request, "from", null));
+        final LocalDate to = LocalDate.parse(StubTransport.queryParam(request, "to", null));
+        final List<Integer> ids = invoices.stream()
+            .filter(e -> !e.getValue().isBefore(from) && !e.getValue().isAfter(to))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+
+        if (ids.contains(-1)) {
+            return StubTransport.response(500, "{\"errors\":{\"error\":\"failure\"}}");
+        }
+
+        final int page = StubTransport.page(request);
+        final List<Integer> pageIds = ids.subList(Math.min(ids.size(), (page - 1) * PER_PAGE),
+            Math.min(ids.size(), page * PER_PAGE));
+        return StubTransport.response(StubTransport.SC_OK,
+            StubTransport.invoicesPage(page, PER_PAGE, ids.size(), pageIds));
+    }
+
+    private static List<Integer> ids(final int from, final int to) {
+        return IntStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import de.siegmar.billomat4j.StubTransport;
+import de.siegmar.billomat4j.transport.HttpTransport;
+import de.siegmar.billomat4j.transport.TransportRequest;
+import de.siegmar.billomat4j.transport.TransportResponse;
+
+public class TenantTransportTest {
+
+    private static final TransportRequest REQUEST = new TransportRequest("GET",
+        URI.create("https://host.billomat.net/api/clients/1"), Map.of(), null, Duration.ofSeconds(1));
+
+    private final FairScheduler scheduler = new FairScheduler(1);
+
+    @Test
+    public void releasesPermitOnBodyClose() throws IOException {
+        final TenantTransport transport = transport(request -> StubTransport.response(StubTransport.SC_OK, "{}"));
+
+        final TransportResponse response = transport.send(REQUEST);
+        final CompletableFuture<Void> waiter = scheduler.acquire("b");
+        assertFalse(waiter.isDone());
+
+        response.close();
+        assertTrue(waiter.isDone());
+
+        // closing again doesn't release a second permit
+        response.close();
+        assertFalse(scheduler.acquire("c").isDone());
+    }
+
+    @Test
+    public void releasesPermitIfSendFails() {
+        final TenantTransport transport = transport(request -> {
+            throw new IOException("Connection refused");
+        });
+
+        assertThrows(IOException.class, () -> transport.send(REQUEST));
+        assertTrue(scheduler.acquire("b").isDone());
+    }
+
+    @Test
+    public void releasesPermitIfAsyncSendFails() {
+        final TenantTransport transport = transport(request -> {
+            throw new IOException("Connection refused");
+        });
+
+        assertThrows(CompletionException.class, () -> transport.sendAsync(REQUEST).join());
+        assertTrue(scheduler.acquire("b").isDone());
+    }
+
+    @Test
+    public void interruptedWaiterIsCancelled() throws InterruptedException {
+        final TenantTransport transport = transport(request -> StubTransport.response(StubTransport.SC_OK, "{}"));
+        assertTrue(scheduler.acquire("b").isDone());
+
+        final AtomicReference<Object> result = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            try {
+                result.set(transport.send(REQUEST));
+            } catch (final IOException e) {
+                result.set(e);
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                result.set("interrupted " + result.get().getClass().getSimpleName());
+            }
+        });
+        thread.start();
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        thread.interrupt();
+        thread.join();
+
+        assertEquals("interrupted " + InterruptedIOException.class.getSimpleName(), result.get());
+
+        // the permit isn't passed to the interrupted waiter
+        scheduler.release();
+        assertTrue(scheduler.acquire("c").isDone());
+    }
+
+    private TenantTransport transport(final HttpTransport delegate) {
+        return new TenantTransport("a", delegate, scheduler);
+    }
+
+}
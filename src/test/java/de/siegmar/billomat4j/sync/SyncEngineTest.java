@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.siegmar.billomat4j.domain.Identifiable;
+
+public class SyncEngineTest {
+
+    private static final Instant START = Instant.parse("2026-01-10T00:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private final Map<Integer, Doc> docs = new TreeMap<>();
+    private final List<LocalDate> fetches = new ArrayList<>();
+    private final List<String> events = new ArrayList<>();
+
+    @Test
+    public void incrementalSync() {
+        put(1, "2026-01-01", "a");
+        put(2, "2026-01-05", "b");
+
+        sync(START);
+        assertEquals(List.of("INSERT 1", "INSERT 2"), events);
+
+        // regular sync - only fetches the lookback window
+        put(3, "2026-01-06", "c");
+        put(2, "2026-01-05", "b2");
+        sync(START.plus(Duration.ofDays(1)));
+        assertEquals(List.of("UPDATE 2", "INSERT 3"), events);
+        assertEquals(LocalDate.parse("2026-01-03"), fetches.get(1));
+
+        // deletions are only detected by a reconciliation
+        docs.remove(1);
+        sync(START.plus(Duration.ofDays(2)));
+        assertEquals(List.of(), events);
+        sync(START.plus(Duration.ofDays(7)));
+        assertEquals(List.of("DELETE 1"), events);
+        assertEquals(null, fetches.get(3));
+    }
+
+    private void put(final int id, final String date, final String title) {
+        docs.put(id, new Doc(id, LocalDate.parse(date), title));
+    }
+
+    private void sync(final Instant now) {
+        events.clear();
+        final SyncEngine engine = new SyncEngine(tempDir.resolve("checkpoint"), Clock.fixed(now, ZoneOffset.UTC));
+        engine.setLookback(Period.ofDays(2));
+        engine.register(SyncSource.of("docs", from -> {
+            fetches.add(from);
+            return docs.values().stream()
+                .filter(d -> from == null || !d.getDate().isBefore(from))
+                .collect(Collectors.toList()).stream();
+        }, Doc::getDate, docs::containsKey), e -> events.add(e.getType() + " " + e.getId()));
+        engine.sync();
+    }
+
+    public static final class Doc implements Identifiable {
+
+        private final Integer id;
+        private final LocalDate date;
+        private final String title;
+
+        Doc(final Integer id, final LocalDate date, final String title) {
+            this.id = id;
+            this.date = date;
+            this.title = title;
+        }
+
+        @Override
+        public Integer getId() {
+            return id;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+    }
+
+}
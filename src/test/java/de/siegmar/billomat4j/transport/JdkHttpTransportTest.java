@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Oliver Siegmar
+ *
+ * This file is part of Billomat4J.
+ *
+ * Billomat4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Billomat4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Billomat4J.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.siegmar.billomat4j.transport;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class JdkHttpTransportTest {
+
+    private static final byte[] RESPONSE = "{\"client\":{\"id\":\"1\"}}".getBytes(StandardCharsets.UTF_8);
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final JdkHttpTransport transport = new JdkHttpTransport(Duration.ofSeconds(5));
+    private HttpServer server;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void mapsRequestAndResponse() throws IOException {
+        final byte[] body = "{\"client\":{}}".getBytes(StandardCharsets.UTF_8);
+
+        try (TransportResponse res = transport.send(request("POST", body))) {
+            assertEquals(201, res.getStatusCode());
+            assertEquals("application/json", res.firstHeader("content-type").orElseThrow());
+            assertArrayEquals(RESPONSE, res.getBody().readAllBytes());
+        }
+
+        assertEquals(List.of("POST /api/clients?a=b", "key", "{\"client\":{}}"), received);
+    }
+
+    @Test
+    public void sendsRequestsWithoutBody() throws IOException {
+        try (TransportResponse res = transport.sendAsync(request("GET", null)).join()) {
+            assertEquals(201, res.getStatusCode());
+            assertArrayEquals(RESPONSE, res.getBody().readAllBytes());
+        }
+
+        assertEquals(List.of("GET /api/clients?a=b", "key", ""), received);
+    }
+
+    @Test
+    public void requestBodyIsCopiedOnceAndReadOnly() {
+        final byte[] body = {1, 2, 3};
+        final TransportRequest request = request("PUT", body);
+        body[0] = 0;
+
+        final ByteBuffer view = request.getBody();
+        assertTrue(view.isReadOnly());
+        assertEquals(1, view.get(0));
+        assertThrows(ReadOnlyBufferException.class, () -> view.put(0, (byte) 0));
+        assertEquals(1, request.getBody().get(0));
+        assertFalse(request.bodyArray() == body);
+        assertNull(request("GET", null).getBody());
+    }
+
+    private TransportRequest request(final String method, final byte[] body) {
+        final URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/clients?a=b");
+        return new TransportRequest(method, uri, Map.of("X-BillomatApiKey", "key"), body, Duration.ofSeconds(5));
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        received.add(exchange.getRequestMethod() + " " + exchange.getRequestURI());
+        received.add(exchange.getRequestHeaders().getFirst("X-BillomatApiKey"));
+        received.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(201, RESPONSE.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(RESPONSE);
+        }
+    }
+
+}